@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+#
+# Stripe webhook 로컬 부하 테스트
+#
+# 실제 Stripe 계정 없이 서버와 같은 STRIPE_WEBHOOK_SECRET 으로 서명한
+# payment_intent.succeeded 이벤트를 /api/payment/webhook 으로 보낸다.
+# 이벤트 ID 는 예약 ID 로 고정(evt_load_<예약ID>)이므로 같은 범위로 다시 실행하면 중복 이벤트 처리도 확인할 수 있다.
+#
+# 사용법:
+#   STRIPE_WEBHOOK_SECRET=whsec_test ./scripts/stripe-webhook-load.sh <시작 예약ID> <개수> [동시 요청 수] [서버 주소]
+#   예) STRIPE_WEBHOOK_SECRET=whsec_test ./scripts/stripe-webhook-load.sh 1 1000 16 http://localhost:8080
+#
+# 출력 : HTTP 상태 코드별 건수, 평균 / 최대 응답 시간(초)
+
+set -euo pipefail
+
+export SECRET="${STRIPE_WEBHOOK_SECRET:?STRIPE_WEBHOOK_SECRET 환경변수가 필요합니다}"
+FROM_ID="${1:?시작 예약 ID 가 필요합니다}"
+COUNT="${2:?이벤트 개수가 필요합니다}"
+PARALLEL="${3:-8}"
+export URL="${4:-http://localhost:8080}/api/payment/webhook"
+
+send() {
+  local reservation_id="$1"
+  local ts
+  ts=$(date +%s)
+  local payload
+  payload=$(printf '{"id":"evt_load_%s","object":"event","type":"payment_intent.succeeded","data":{"object":{"id":"pi_load_%s","object":"payment_intent","amount_received":10000,"status":"succeeded","metadata":{"reservationId":"%s"}}}}' \
+    "$reservation_id" "$reservation_id" "$reservation_id")
+  # Stripe 서명 : HMAC-SHA256("<timestamp>.<payload>", secret)
+  local sig
+  sig=$(printf '%s.%s' "$ts" "$payload" | openssl dgst -sha256 -hmac "$SECRET" -hex | sed 's/^.* //')
+  curl -s -o /dev/null -w '%{http_code} %{time_total}\n' -X POST "$URL" \
+    -H 'Content-Type: application/json' \
+    -H "Stripe-Signature: t=${ts},v1=${sig}" \
+    --data "$payload"
+}
+export -f send
+
+seq "$FROM_ID" $((FROM_ID + COUNT - 1)) \
+  | xargs -P "$PARALLEL" -I{} bash -c 'send {}' \
+  | awk '{ codes[$1]++; sum += $2; if ($2 > max) max = $2 }
+         END { for (c in codes) printf "HTTP %s : %d\n", c, codes[c];
+               printf "avg %.4fs / max %.4fs (%d requests)\n", sum / NR, max, NR }'
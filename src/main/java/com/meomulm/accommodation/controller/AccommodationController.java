@@ -2,6 +2,8 @@ package com.meomulm.accommodation.controller;
 
 import com.meomulm.accommodation.model.dto.AccommodationDetail;
 import com.meomulm.accommodation.model.dto.AccommodationImage;
+import com.meomulm.accommodation.model.dto.AccommodationSuggestion;
+import com.meomulm.accommodation.model.dto.SearchAccommodationPage;
 import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
 import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
 import com.meomulm.accommodation.model.service.AccommodationService;
@@ -17,6 +19,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class AccommodationController {
+    // 다음 페이지 커서 응답 헤더
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final AccommodationService accommodationService;
 
     /**
@@ -45,30 +50,53 @@ public class AccommodationController {
 //                accommodationService.getAccommodationByKeyword(keyword);
 //        return ResponseEntity.ok(searchAccommodationResponse);
 //    }
+    /**
+     * 키워드 / 현위치 / 필터링 통합 조회 (size / cursor / sort 로 페이지 조회)
+     * 현위치는 반경(radius) 또는 가까운 숙소 k개(nearest), 지도 영역은 min/maxLatitude, min/maxLongitude 로 조회
+     * @param request 숙소검색 요청 DTO
+     * @return 숙소검색 응답 DTO 리스트 + 상태코드 200 (다음 페이지가 있으면 X-Next-Cursor 헤더)
+     */
     @GetMapping("/search")
     public ResponseEntity<List<SearchAccommodationResponse>> searchAccommodations(
             @ModelAttribute SearchAccommodationRequest request) {
         log.info("🔥 통합 검색 진입 - 파라미터: {}", request);
-        List<SearchAccommodationResponse> results = accommodationService.searchAccommodations(request);
-        return ResponseEntity.ok(results);
+        SearchAccommodationPage page = accommodationService.searchAccommodations(request);
+        return toPageResponse(page);
+    }
+
+    /**
+     * 검색어 자동완성 : 숙소명 / 지역명 (입력할 때마다 호출)
+     * @param keyword 입력 중인 검색어
+     * @param limit 최대 개수 (기본 10)
+     * @return 자동완성 리스트 + 상태코드 200
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<AccommodationSuggestion>> getSuggestions(
+            @RequestParam String keyword,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(accommodationService.getSuggestions(keyword, limit));
     }
 
     /**
      * 최근 본 숙소
      * @param ids 최근 본 숙소 아이디 리스트
-     * @return 숙소검색 DTO 리스트
+     * @param size 페이지 크기
+     * @param cursor 이전 응답의 X-Next-Cursor 값
+     * @return 숙소검색 DTO 리스트 (다음 페이지가 있으면 X-Next-Cursor 헤더)
      */
     @PostMapping("/recent")
     public ResponseEntity<List<SearchAccommodationResponse>> getRecentAccommodations(
-            @RequestBody List<Integer> ids
+            @RequestBody List<Integer> ids,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         log.info("🔥 최근 본 숙소 조회 - ids={}", ids);
 
-        List<SearchAccommodationResponse> results =
-                accommodationService.getRecentAccommodations(ids);
+        SearchAccommodationPage page =
+                accommodationService.getRecentAccommodations(ids, size, cursor);
         // log.info("✅ 최근 본 숙소 저장 - results={}", results);
 
-        return ResponseEntity.ok(results);
+        return toPageResponse(page);
     }
 
 
@@ -89,22 +117,40 @@ public class AccommodationController {
     }
 
     /**
-     * 현재위치 기반 반경 5km 내 숙소 조회 : 지도 검색
-     * @param request 숙소검색 요청 DTO
-     * @return 숙소검색 응답 DTO 리스트 + 상태코드 200
+     * 현재위치 기반 반경 내 숙소 조회 : 지도 검색 (radius 없으면 기본 5km, nearest 가 있으면 가까운 k개)
+     * @param request 숙소검색 요청 DTO (size / cursor / sort 로 페이지 조회)
+     * @return 숙소검색 응답 DTO 리스트 + 상태코드 200 (다음 페이지가 있으면 X-Next-Cursor 헤더)
      */
     @PostMapping("/map")
     public ResponseEntity<List<SearchAccommodationResponse>> searchByLocation(
             @RequestBody SearchAccommodationRequest request
     ) {
-        log.info("🔥 Controller 진입 - location={},{}",
+        log.info("🔥 Controller 진입 - location={},{}, radius={}",
                 request.getLatitude(),
-                request.getLongitude());
-        List<SearchAccommodationResponse> searchAccommodationResponse =
-                accommodationService.getAccommodationByLocation(
-                        request.getLatitude(),
-                        request.getLongitude());
-        return ResponseEntity.ok(searchAccommodationResponse);
+                request.getLongitude(),
+                request.getRadius());
+        SearchAccommodationPage page =
+                accommodationService.getAccommodationByLocation(request);
+        return toPageResponse(page);
+    }
+
+    /**
+     * 지도 화면 영역(bounding box) 내 숙소 조회 : 지도 이동 / 확대 시 호출
+     * @param request 숙소검색 요청 DTO (minLatitude / minLongitude / maxLatitude / maxLongitude + size / cursor / sort)
+     * @return 숙소검색 응답 DTO 리스트 + 상태코드 200 (다음 페이지가 있으면 X-Next-Cursor 헤더)
+     */
+    @PostMapping("/map/bounds")
+    public ResponseEntity<List<SearchAccommodationResponse>> searchByBoundingBox(
+            @RequestBody SearchAccommodationRequest request
+    ) {
+        log.info("🔥 Controller 진입 - bounds=({},{}) ~ ({},{})",
+                request.getMinLatitude(),
+                request.getMinLongitude(),
+                request.getMaxLatitude(),
+                request.getMaxLongitude());
+        SearchAccommodationPage page =
+                accommodationService.getAccommodationInBoundingBox(request);
+        return toPageResponse(page);
     }
 
     /**
@@ -123,4 +169,15 @@ public class AccommodationController {
         return ResponseEntity.ok(accommodationDetail);
     }
 
+    /**
+     * 페이지 응답 - 본문은 기존과 같은 리스트, 다음 페이지 커서는 헤더로 전달
+     */
+    private ResponseEntity<List<SearchAccommodationResponse>> toPageResponse(SearchAccommodationPage page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getAccommodations());
+    }
+
 }
@@ -0,0 +1,114 @@
+package com.meomulm.accommodation.model.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meomulm.accommodation.model.dto.SearchAccommodationPage;
+import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
+import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
+import com.meomulm.accommodation.model.event.AccommodationChangedEvent;
+import com.meomulm.accommodation.model.event.AccommodationIndexRefreshedEvent;
+import com.meomulm.product.model.event.ProductInventoryChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 숙소 통합 검색 결과 캐시
+ *
+ * 키는 정규화된 검색 요청(SearchAccommodationRequest), 값은 이미지까지 채운 결과 페이지.
+ * Caffeine(W-TinyLFU) 로 자주 쓰이는 검색만 남기고, 크기는 결과 숙소 + 이미지 수 기준 가중치로 제한한다.
+ *
+ * 가격 / 평점 / 숙소 목록이 바뀌면 어떤 검색 결과가 바뀌는지 좁히기 어려워 전체를 비운다.
+ * (리뷰 변경 커밋 이후, 인덱스 재적재 이후)
+ * 예약 변경은 숙박 조건(날짜 / 인원)이 들어간 검색 결과만 비운다.
+ * 적중률 / 제거 수는 cache.* 메트릭(/actuator/metrics)으로 노출한다.
+ */
+@Slf4j
+@Component
+public class AccommodationSearchCache {
+
+    public static final String CACHE_NAME = "accommodationSearch";
+
+    private final Cache<SearchAccommodationRequest, SearchAccommodationPage> cache;
+
+    public AccommodationSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${accommodation.search.cache.max-weight:20000}") long maxWeight,
+            @Value("${accommodation.search.cache.expire-seconds:600}") long expireSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(AccommodationSearchCache::weigh)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 - 없으면 loader 로 만들어서 저장 (예외는 저장하지 않음)
+     * @param request 정규화된 검색 요청
+     * @param loader 실제 검색
+     * @return 검색 결과 페이지
+     */
+    public SearchAccommodationPage get(SearchAccommodationRequest request,
+                                       Function<SearchAccommodationRequest, SearchAccommodationPage> loader) {
+        return cache.get(request, loader);
+    }
+
+    /**
+     * 리뷰 변경 반영 (커밋 이후, 검색 집계 반영 다음에 실행)
+     */
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        invalidateAll("숙소 변경 " + event.getType());
+    }
+
+    /**
+     * 예약 추가 / 취소 / 삭제 반영 (커밋 이후, 예약 가능 인덱스 반영 다음에 실행)
+     * 숙박 조건이 들어간 검색 결과만 비운다.
+     */
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(ProductInventoryChangedEvent event) {
+        cache.asMap().keySet().removeIf(request ->
+                request.getCheckInDate() != null || request.getGuestCount() != null);
+    }
+
+    @Order(100)
+    @EventListener
+    public void onIndexRefreshed(AccommodationIndexRefreshedEvent event) {
+        invalidateAll("인덱스 재적재");
+    }
+
+    private void invalidateAll(String reason) {
+        long size = cache.estimatedSize();
+        cache.invalidateAll();
+        log.info("💡 숙소 검색 캐시 비움 - reason={}, entries={}", reason, size);
+    }
+
+    /**
+     * 결과 페이지 가중치 = 숙소 수 + 이미지 수 (최소 1)
+     */
+    private static int weigh(SearchAccommodationRequest request, SearchAccommodationPage page) {
+        int weight = 1;
+        if (page.getAccommodations() != null) {
+            weight += page.getAccommodations().size();
+            for (SearchAccommodationResponse accommodation : page.getAccommodations()) {
+                if (accommodation.getAccommodationImages() != null) {
+                    weight += accommodation.getAccommodationImages().size();
+                }
+            }
+        }
+        return weight;
+    }
+}
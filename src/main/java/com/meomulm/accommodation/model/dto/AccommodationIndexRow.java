@@ -0,0 +1,51 @@
+package com.meomulm.accommodation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인메모리 검색 인덱스 적재용 숙소 1건
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccommodationIndexRow {
+    // 숙소 아이디
+    private int accommodationId;
+    // 숙소명
+    private String accommodationName;
+    // 숙소 주소
+    private String accommodationAddress;
+    // 위도
+    private Double accommodationLatitude;
+    // 경도
+    private Double accommodationLongitude;
+    // 객실 최소 가격
+    private Integer minPrice;
+    // 카테고리 코드
+    private String categoryCode;
+    // 리뷰 개수
+    private int reviewCount;
+    // 평점 합계 (평균 평점 = ratingSum / reviewCount)
+    private long ratingSum;
+
+    // 주차 가능 여부
+    private boolean hasParking;
+    // 전기차 충전시설 보유 여부
+    private boolean hasEvCharging;
+    // 흡연구역 보유 여부
+    private boolean hasSmokingArea;
+    // 공용 와이파이 보유 여부
+    private boolean hasPublicWifi;
+    // 레저 시설 보유 여부
+    private boolean hasLeisure;
+    // 스포츠 시설 보유 여부
+    private boolean hasSports;
+    // 쇼핑 시설 보유 여부
+    private boolean hasShopping;
+    // 비즈니스 시설 보유 여부
+    private boolean hasBusiness;
+    // 식음료 시설 보유 여부
+    private boolean hasFnb;
+}
@@ -0,0 +1,17 @@
+package com.meomulm.accommodation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccommodationSuggestion {
+    // 자동완성 종류 (ACCOMMODATION : 숙소명, REGION : 지역명)
+    private String type;
+    // 표시할 문구
+    private String text;
+    // 숙소 아이디 (숙소명 자동완성일 때만)
+    private Integer accommodationId;
+}
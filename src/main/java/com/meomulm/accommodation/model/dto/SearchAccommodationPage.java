@@ -0,0 +1,17 @@
+package com.meomulm.accommodation.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchAccommodationPage {
+    // 현재 페이지 숙소 리스트
+    private List<SearchAccommodationResponse> accommodations;
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+}
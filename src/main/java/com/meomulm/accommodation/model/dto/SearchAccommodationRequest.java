@@ -21,10 +21,19 @@ public class SearchAccommodationRequest {
 
 
     // --- 기본 검색 파라미터 ---
-    private String keyword;               // 숙소명 또는 지역명 키워드
+    private String keyword;               // 숙소명 또는 지역명 키워드 (초성만 입력하면 초성 검색)
+    private Boolean fuzzy;                // true 면 키워드 오타 허용 검색 (자모 단위 편집 거리)
     private String accommodationAddress;  // 인기 숙소 조회용 주소
     private Double longitude;             // 현위치 경도
     private Double latitude;              // 현위치 위도
+    private Integer radius;               // 현위치 검색 반경 (m, 없으면 accommodation.search.radius-meters)
+    private Integer nearest;              // 현위치에서 가까운 숙소 k개 (있으면 반경 대신 사용)
+
+    // --- 지도 화면 영역 (bounding box, 네 값 모두 있어야 함) ---
+    private Double minLatitude;           // 남쪽 위도
+    private Double minLongitude;          // 서쪽 경도
+    private Double maxLatitude;           // 북쪽 위도
+    private Double maxLongitude;          // 동쪽 경도
 
     /*
     위도(latitude)와 경도(longitude)를 double에서 Double (Wrapper 클래스)로 변경하는 것이 안전.
@@ -39,4 +48,15 @@ public class SearchAccommodationRequest {
     private Integer minPrice;             // 최소 가격
     private Integer maxPrice;             // 최대 가격
 
+    // --- 숙박 조건 (예약 가능한 객실이 있는 숙소만) ---
+    private String checkInDate;           // 체크인 날짜 (yyyy-MM-dd)
+    private String checkOutDate;          // 체크아웃 날짜 (yyyy-MM-dd)
+    private Integer guestCount;           // 인원 수
+    private Integer nights;               // 날짜 유연 검색 숙박일 수 (있으면 체크인 ~ 체크아웃을 검색 기간으로 보고 그 안의 아무 nights 박)
+
+    // --- 페이지 파라미터 (커서 기반) ---
+    private Integer size;                 // 페이지 크기 (없으면 accommodation.search.page-size, 주소 조회는 12)
+    private String cursor;                // 이전 응답의 X-Next-Cursor 값 (첫 페이지면 없음)
+    private String sort;                  // LATEST / PRICE / RATING / DISTANCE (없으면 조회 방식별 기본)
+
 }
\ No newline at end of file
@@ -23,10 +23,17 @@ public class SearchAccommodationResponse {
     private double accommodationLongitude;
     // 객실 최소 가격
     private int minPrice;
+    // 평균 평점
+    private double avgRating;
+    // 리뷰 개수
+    private int reviewCount;
 
     // 카테고리 코드
     private String categoryCode;
 
+    // 현위치 기준 거리 (m, 현위치 검색일 때만)
+    private Double distance;
+
 
     // 숙소 이미지 리스트
     private List<AccommodationImage> accommodationImages;
@@ -0,0 +1,39 @@
+package com.meomulm.accommodation.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 숙소 검색 결과에 영향을 주는 변경 이벤트
+ *
+ * 리뷰 작성 / 삭제 트랜잭션 안에서 발행하고,
+ * 커밋된 뒤에 검색 프로젝션 등 인메모리 읽기 모델이 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccommodationChangedEvent {
+
+    public enum Type {
+        // 리뷰 작성
+        REVIEW_ADDED,
+        // 리뷰 삭제
+        REVIEW_DELETED
+    }
+
+    // 변경 종류
+    private final Type type;
+    // 숙소 아이디
+    private final int accommodationId;
+    // 리뷰 평점 (리뷰 이벤트일 때만)
+    private final int rating;
+
+    public static AccommodationChangedEvent reviewAdded(int accommodationId, int rating) {
+        return new AccommodationChangedEvent(Type.REVIEW_ADDED, accommodationId, rating);
+    }
+
+    public static AccommodationChangedEvent reviewDeleted(int accommodationId, int rating) {
+        return new AccommodationChangedEvent(Type.REVIEW_DELETED, accommodationId, rating);
+    }
+}
@@ -0,0 +1,18 @@
+package com.meomulm.accommodation.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 숙소 검색 인덱스 전체 재적재 완료 이벤트
+ *
+ * 인덱스 스냅샷을 기준으로 만든 캐시 / 파생 데이터는 이 이벤트를 받아 새로 만든다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccommodationIndexRefreshedEvent {
+    // 적재된 숙소 수
+    private final int accommodationCount;
+}
@@ -0,0 +1,361 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.event.AccommodationIndexRefreshedEvent;
+import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.product.model.dto.Product;
+import com.meomulm.product.model.dto.ProductInventory;
+import com.meomulm.product.model.event.ProductInventoryChangedEvent;
+import com.meomulm.product.model.mapper.ProductInventoryMapper;
+import com.meomulm.product.model.mapper.ProductMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 날짜별 예약 가능 객실 비트맵 인덱스
+ *
+ * 오늘부터 accommodation.availability.horizon-days 일 동안, 날짜마다
+ * "그날 밤 빈 방이 남은 객실" 비트맵(객실 1개 = 비트 1개)을 들고 있다.
+ * 숙박 기간 조회는 숙박일 비트맵을 AND 하고 인원 조건 비트맵을 AND 한 뒤,
+ * 남은 객실이 하나라도 있는 숙소만 돌려준다. (검색 후보마다 예약 가능 쿼리를 돌리지 않음)
+ *
+ * 전체 재적재 : 검색 인덱스 재적재 직후 (날짜가 바뀌면 기간도 함께 이동)
+ * 부분 갱신 : 예약 추가 / 취소 / 삭제 커밋 이후 해당 객실의 해당 기간만 다시 읽음
+ *            (재적재 중에 들어온 부분 갱신은 새 스냅샷 교체 직전에 다시 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationAvailabilityIndex {
+
+    private final ProductMapper productMapper;
+    private final ProductInventoryMapper productInventoryMapper;
+
+    // 예약 가능 여부를 들고 있는 기간 (일)
+    @Value("${accommodation.availability.horizon-days:180}")
+    private int horizonDays;
+
+    private volatile Snapshot snapshot;
+
+    // 부분 갱신과 스냅샷 교체를 순서대로 처리하기 위한 잠금
+    private final Object patchLock = new Object();
+    // 재적재 중에 들어온 부분 갱신 (재적재 중이 아니면 null, patchLock 으로 보호)
+    private List<ProductInventoryChangedEvent> pendingPatches;
+
+    @Order(0)
+    @EventListener
+    public void onIndexRefreshed(AccommodationIndexRefreshedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 예약 가능 인덱스 갱신 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 예약 추가 / 취소 / 삭제 반영 (커밋 이후)
+     * 재적재 중이면 기록해 두었다가 새 스냅샷으로 교체할 때 다시 적용한다.
+     * (재적재가 이 변경 커밋 전에 읽은 데이터로 만들어졌을 수 있으므로)
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(ProductInventoryChangedEvent event) {
+        synchronized (patchLock) {
+            if (pendingPatches != null) {
+                pendingPatches.add(event);
+            }
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        patch(current, event);
+        log.info("✅ 예약 가능 인덱스 부분 갱신 - {}", event);
+    }
+
+    /**
+     * 전체 객실 + 기간 내 박별 예약 수로 인덱스 재생성
+     * 읽는 동안 들어온 부분 갱신은 교체와 같은 잠금 안에서 새 스냅샷에 다시 적용한다.
+     */
+    public synchronized void rebuild() {
+        long startMs = System.currentTimeMillis();
+        synchronized (patchLock) {
+            pendingPatches = new ArrayList<>();
+        }
+        Snapshot rebuilt;
+        try {
+            LocalDate today = LocalDate.now();
+            List<Product> products = productMapper.selectAllProducts();
+            List<ProductInventory> inventory =
+                    productInventoryMapper.selectInventoryBetween(today, today.plusDays(horizonDays));
+            rebuilt = new Snapshot(today, horizonDays, products, inventory);
+        } catch (RuntimeException e) {
+            synchronized (patchLock) {
+                pendingPatches = null;
+            }
+            throw e;
+        }
+        int replayed;
+        synchronized (patchLock) {
+            replayed = pendingPatches.size();
+            for (ProductInventoryChangedEvent event : pendingPatches) {
+                patch(rebuilt, event);
+            }
+            pendingPatches = null;
+            this.snapshot = rebuilt;
+        }
+        log.info("✅ 예약 가능 인덱스 갱신 완료 - products={}, days={}, 재적용={}, {}ms",
+                rebuilt.accommodationIds.length, horizonDays, replayed, System.currentTimeMillis() - startMs);
+    }
+
+    /**
+     * 객실 1개의 변경 기간만 다시 읽어서 스냅샷에 반영
+     */
+    private void patch(Snapshot target, ProductInventoryChangedEvent event) {
+        LocalDate from = max(event.getCheckInDate(), target.startDate);
+        LocalDate to = min(event.getCheckOutDate(), target.startDate.plusDays(target.days));
+        if (!from.isBefore(to)) {
+            return;
+        }
+        List<ProductInventory> rows =
+                productInventoryMapper.selectInventoryByProductBetween(event.getProductId(), from, to);
+        target.patch(event.getProductId(), from, to, rows);
+    }
+
+    /**
+     * 숙박 기간 + 인원 조건으로 예약 가능한 객실이 하나라도 있는 숙소 판별기
+     * @param checkInDate 체크인 날짜 (null 이면 인원 조건만)
+     * @param checkOutDate 체크아웃 날짜 (null 이면 인원 조건만)
+     * @param guestCount 인원 수 (null 이면 인원 조건 없음)
+     * @return 숙소 ID -> 예약 가능 여부
+     */
+    public IntPredicate availableAccommodations(LocalDate checkInDate, LocalDate checkOutDate, Integer guestCount) {
+        if (checkInDate == null || checkOutDate == null) {
+            Snapshot current = snapshot();
+            int[] accommodationIds = current.accommodationsOf(
+                    current.capacityBitmap(guestCount == null ? 0 : guestCount));
+            return accommodationId -> Arrays.binarySearch(accommodationIds, accommodationId) >= 0;
+        }
+        return availableAccommodations(checkInDate, checkOutDate,
+                (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate), guestCount);
+    }
+
+    /**
+     * 날짜 유연 검색 - 기간 [windowStart, windowEnd) 안에 nights 박 연속으로 예약 가능한 객실이 있는 숙소 판별기
+     * 체크인 후보마다 숙박일 비트맵을 다시 AND 하지 않고,
+     * nights 크기 블록별 앞/뒤 누적 AND 로 모든 후보 구간을 한 번에 계산한다. (날짜 수에 비례)
+     * @param windowStart 검색 기간 시작 (첫 체크인 후보)
+     * @param windowEnd 검색 기간 끝 (마지막 체크아웃 한도)
+     * @param nights 숙박일 수
+     * @param guestCount 인원 수 (null 이면 인원 조건 없음)
+     * @return 숙소 ID -> 예약 가능 여부
+     */
+    public IntPredicate availableAccommodations(LocalDate windowStart, LocalDate windowEnd, int nights, Integer guestCount) {
+        Snapshot current = snapshot();
+        int fromDay = current.dayOf(windowStart);
+        int toDay = current.dayOf(windowEnd);
+        if (fromDay < 0 || toDay > current.days) {
+            throw new BadRequestException("예약 가능 여부는 오늘부터 " + horizonDays + "일 이내만 검색할 수 있습니다.");
+        }
+        long[] products = current.capacityBitmap(guestCount == null ? 0 : guestCount);
+        long[] anyWindow = anyWindowAvailable(
+                Arrays.copyOfRange(current.availableByDay, fromDay, toDay), nights, products.length);
+        for (int w = 0; w < products.length; w++) {
+            products[w] &= anyWindow[w];
+        }
+
+        int[] accommodationIds = current.accommodationsOf(products);
+        return accommodationId -> Arrays.binarySearch(accommodationIds, accommodationId) >= 0;
+    }
+
+    /**
+     * 연속 n 일 모두 비트가 켜진 구간이 하나라도 있는 비트 (구간 AND 의 OR)
+     * 날짜를 n 개씩 블록으로 나눠 블록 안 앞쪽 누적 AND(prefix) / 뒤쪽 누적 AND(suffix)를 구하면
+     * 시작일 s 의 구간 AND = suffix[s] & prefix[s + n - 1] 이다.
+     */
+    static long[] anyWindowAvailable(long[][] days, int n, int words) {
+        long[] result = new long[words];
+        int size = days.length;
+        if (n <= 0 || n > size) {
+            return result;
+        }
+        long[][] prefix = new long[size][];
+        long[][] suffix = new long[size][];
+        for (int i = 0; i < size; i++) {
+            prefix[i] = i % n == 0 ? days[i].clone() : and(prefix[i - 1], days[i]);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            suffix[i] = i % n == n - 1 || i == size - 1 ? days[i].clone() : and(suffix[i + 1], days[i]);
+        }
+        for (int start = 0; start + n <= size; start++) {
+            long[] left = suffix[start];
+            long[] right = prefix[start + n - 1];
+            for (int w = 0; w < words; w++) {
+                result[w] |= left[w] & right[w];
+            }
+        }
+        return result;
+    }
+
+    private static long[] and(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        for (int w = 0; w < a.length; w++) {
+            result[w] = a[w] & b[w];
+        }
+        return result;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * 특정 날짜 기준 예약 가능 비트맵 묶음
+     * 날짜별 비트맵은 부분 갱신 시 복사본을 만들어 통째로 교체한다. (조회 중인 배열은 바뀌지 않음)
+     */
+    private static class Snapshot {
+        private final LocalDate startDate;
+        private final int days;
+        private final int words;
+        // 객실 ordinal -> 숙소 ID (숙소 ID 오름차순)
+        private final int[] accommodationIds;
+        // 객실 ordinal -> 객실 수 / 최대 인원
+        private final int[] productCounts;
+        private final int[] maximumNumbers;
+        // 객실 ID -> ordinal
+        private final Map<Integer, Integer> ordinalsByProductId;
+        // 날짜(startDate 기준 일수) -> 빈 방이 남은 객실 비트맵
+        private final long[][] availableByDay;
+
+        private Snapshot(LocalDate startDate, int days, List<Product> products, List<ProductInventory> inventory) {
+            this.startDate = startDate;
+            this.days = days;
+            int size = products.size();
+            this.words = Math.max(1, (size + 63) >>> 6);
+            this.accommodationIds = new int[size];
+            this.productCounts = new int[size];
+            this.maximumNumbers = new int[size];
+            this.ordinalsByProductId = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Product product = products.get(i);
+                accommodationIds[i] = product.getAccommodationId();
+                productCounts[i] = product.getProductCount();
+                maximumNumbers[i] = product.getProductMaximumNumber();
+                ordinalsByProductId.put(product.getProductId(), i);
+            }
+
+            // 처음엔 객실 수가 1개 이상인 객실 전부 예약 가능
+            long[] allRooms = new long[words];
+            for (int i = 0; i < size; i++) {
+                if (productCounts[i] > 0) {
+                    allRooms[i >>> 6] |= 1L << i;
+                }
+            }
+            this.availableByDay = new long[days][];
+            for (int day = 0; day < days; day++) {
+                availableByDay[day] = allRooms.clone();
+            }
+            // 만실인 날만 비트 제거
+            for (ProductInventory row : inventory) {
+                Integer ordinal = ordinalsByProductId.get(row.getProductId());
+                int day = dayOf(row.getStayDate());
+                if (ordinal != null && day >= 0 && day < days && row.getReservedCount() >= productCounts[ordinal]) {
+                    availableByDay[day][ordinal >>> 6] &= ~(1L << ordinal);
+                }
+            }
+        }
+
+        private int dayOf(LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(startDate, date);
+        }
+
+        /**
+         * 객실 1개의 기간 [from, to) 예약 가능 비트 재계산
+         * @param rows 해당 기간 박별 예약 수 (행이 없는 날은 예약 0)
+         */
+        private synchronized void patch(int productId, LocalDate from, LocalDate to, List<ProductInventory> rows) {
+            Integer ordinal = ordinalsByProductId.get(productId);
+            if (ordinal == null) {
+                return;
+            }
+            Map<LocalDate, Integer> reservedByDate = new HashMap<>();
+            for (ProductInventory row : rows) {
+                reservedByDate.put(row.getStayDate(), row.getReservedCount());
+            }
+            for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+                int day = dayOf(date);
+                long[] copy = availableByDay[day].clone();
+                if (reservedByDate.getOrDefault(date, 0) < productCounts[ordinal]) {
+                    copy[ordinal >>> 6] |= 1L << ordinal;
+                } else {
+                    copy[ordinal >>> 6] &= ~(1L << ordinal);
+                }
+                availableByDay[day] = copy;
+            }
+        }
+
+        /**
+         * 최대 인원이 guestCount 이상인 객실 비트맵 (새 배열)
+         */
+        private long[] capacityBitmap(int guestCount) {
+            long[] bitmap = new long[words];
+            for (int i = 0; i < maximumNumbers.length; i++) {
+                if (maximumNumbers[i] >= guestCount && productCounts[i] > 0) {
+                    bitmap[i >>> 6] |= 1L << i;
+                }
+            }
+            return bitmap;
+        }
+
+        /**
+         * 객실 비트맵 -> 숙소 ID 오름차순 배열 (객실 ordinal 이 숙소 ID 순이므로 정렬 불필요)
+         */
+        private int[] accommodationsOf(long[] products) {
+            int[] result = new int[accommodationIds.length];
+            int count = 0;
+            for (int w = 0; w < products.length; w++) {
+                long word = products[w];
+                while (word != 0) {
+                    int ordinal = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    int accommodationId = accommodationIds[ordinal];
+                    if (count == 0 || result[count - 1] != accommodationId) {
+                        result[count++] = accommodationId;
+                    }
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
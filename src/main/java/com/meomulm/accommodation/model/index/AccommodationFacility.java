@@ -0,0 +1,113 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.common.exception.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 검색 필터로 허용하는 편의시설 목록 (accommodation_facility 컬럼과 1:1)
+ * 여기 없는 이름은 필터로 받지 않는다.
+ */
+public enum AccommodationFacility {
+    PARKING("has_parking", AccommodationIndexRow::isHasParking),
+    EV_CHARGING("has_ev_charging", AccommodationIndexRow::isHasEvCharging),
+    SMOKING_AREA("has_smoking_area", AccommodationIndexRow::isHasSmokingArea),
+    PUBLIC_WIFI("has_public_wifi", AccommodationIndexRow::isHasPublicWifi),
+    LEISURE("has_leisure", AccommodationIndexRow::isHasLeisure),
+    SPORTS("has_sports", AccommodationIndexRow::isHasSports),
+    SHOPPING("has_shopping", AccommodationIndexRow::isHasShopping),
+    BUSINESS("has_business", AccommodationIndexRow::isHasBusiness),
+    FNB("has_fnb", AccommodationIndexRow::isHasFnb);
+
+    // 정규화된 이름 (밑줄 제거 + 소문자) -> 편의시설
+    private static final Map<String, AccommodationFacility> BY_NAME = new HashMap<>();
+
+    static {
+        for (AccommodationFacility facility : values()) {
+            BY_NAME.put(key(facility.column), facility);
+        }
+    }
+
+    private final String column;
+    private final Predicate<AccommodationIndexRow> accessor;
+
+    AccommodationFacility(String column, Predicate<AccommodationIndexRow> accessor) {
+        this.column = column;
+        this.accessor = accessor;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 비트마스크에서 이 편의시설의 비트
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * 숙소의 편의시설 보유 여부
+     */
+    public boolean isPresent(AccommodationIndexRow row) {
+        return accessor.test(row);
+    }
+
+    /**
+     * 요청 이름으로 편의시설 조회 (has_parking / hasParking 둘 다 허용)
+     * @param name 편의시설 이름
+     * @return 편의시설
+     */
+    public static AccommodationFacility from(String name) {
+        AccommodationFacility facility = name == null ? null : BY_NAME.get(key(name));
+        if (facility == null) {
+            throw new BadRequestException("지원하지 않는 편의시설입니다: " + name);
+        }
+        return facility;
+    }
+
+    /**
+     * 요청 이름 목록을 편의시설 비트마스크로 변환
+     * @param names 편의시설 이름 리스트 (null 이면 조건 없음)
+     * @return 요청한 편의시설 비트 OR
+     */
+    public static long maskOf(List<String> names) {
+        if (names == null) {
+            return 0L;
+        }
+        Set<AccommodationFacility> facilities = EnumSet.noneOf(AccommodationFacility.class);
+        for (String name : names) {
+            facilities.add(from(name));
+        }
+        long mask = 0L;
+        for (AccommodationFacility facility : facilities) {
+            mask |= facility.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 숙소 1건의 편의시설 비트마스크
+     */
+    public static long maskOf(AccommodationIndexRow row) {
+        long mask = 0L;
+        for (AccommodationFacility facility : values()) {
+            if (facility.isPresent(row)) {
+                mask |= facility.bit();
+            }
+        }
+        return mask;
+    }
+
+    private static String key(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
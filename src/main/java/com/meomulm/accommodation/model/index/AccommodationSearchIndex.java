@@ -0,0 +1,289 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.accommodation.model.dto.AccommodationSuggestion;
+import com.meomulm.accommodation.model.event.AccommodationIndexRefreshedEvent;
+import com.meomulm.accommodation.model.index.GeoGridIndex.GeoHit;
+import com.meomulm.accommodation.model.mapper.AccommodationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 숙소 검색용 인메모리 인덱스
+ *
+ * 애플리케이션 시작 시, 그리고 주기적으로(accommodation.index.refresh-ms)
+ * 숙소 전체를 한 번 읽어서 인덱스를 새로 만든 뒤 통째로 교체한다.
+ * 조회 요청은 DB 를 거치지 않고 현재 스냅샷만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationSearchIndex {
+
+    private final AccommodationMapper accommodationMapper;
+    private final AccommodationSearchProjection accommodationSearchProjection;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재 조회에 사용 중인 스냅샷 (갱신 시 통째로 교체)
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("❌ 숙소 검색 인덱스 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${accommodation.index.refresh-ms:600000}",
+            initialDelayString = "${accommodation.index.refresh-ms:600000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("❌ 숙소 검색 인덱스 갱신 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 숙소 전체를 다시 읽어 인덱스 재생성
+     */
+    public synchronized void refresh() {
+        long startMs = System.currentTimeMillis();
+        // 집계는 조회 중에 들어온 리뷰 변경까지 반영해서 교체
+        List<AccommodationIndexRow> rows =
+                accommodationSearchProjection.reload(accommodationMapper::selectAccommodationIndexRows);
+        this.snapshot = new Snapshot(rows);
+        eventPublisher.publishEvent(new AccommodationIndexRefreshedEvent(rows.size()));
+        log.info("✅ 숙소 검색 인덱스 갱신 완료 - count={}, {}ms",
+                rows.size(), System.currentTimeMillis() - startMs);
+    }
+
+    /**
+     * 숙소 ID로 인덱스에 적재된 숙소 조회
+     * @param accommodationId 숙소 ID
+     * @return 숙소 정보 (없으면 null)
+     */
+    public AccommodationIndexRow getRow(int accommodationId) {
+        return snapshot().rowsById.get(accommodationId);
+    }
+
+    /**
+     * 인덱스에 적재된 전체 숙소 ID
+     * @return 숙소 ID 오름차순 리스트
+     */
+    public List<Integer> getAllIds() {
+        int[] ids = snapshot().ids;
+        List<Integer> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 숙소명 또는 주소에 키워드가 포함된 숙소 조회 (ILIKE '%keyword%' 와 동일한 결과)
+     * @param keyword 검색어
+     * @return 숙소 ID 오름차순 리스트
+     */
+    public List<Integer> findByKeyword(String keyword) {
+        return findByKeyword(keyword, false);
+    }
+
+    /**
+     * 키워드 숙소 조회 - 초성 / 오타 허용 포함
+     * 검색어가 초성으로만 이루어져 있으면 초성 검색,
+     * fuzzy 이면 일반 부분 문자열 결과에 오타 허용 결과를 더한다.
+     * @param keyword 검색어
+     * @param fuzzy 오타 허용 여부
+     * @return 숙소 ID 오름차순 리스트
+     */
+    public List<Integer> findByKeyword(String keyword, boolean fuzzy) {
+        Snapshot current = snapshot();
+        int[] ordinals;
+        if (HangulJamo.isChosungOnly(keyword)) {
+            ordinals = current.fuzzy.searchChosung(keyword);
+        } else {
+            ordinals = current.keyword.search(keyword);
+            if (fuzzy) {
+                ordinals = NgramIndex.union(ordinals, current.fuzzy.searchTypo(keyword));
+            }
+        }
+        List<Integer> ids = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            ids.add(current.ids[ordinal]);
+        }
+        return ids;
+    }
+
+    /**
+     * 편의시설(모두 보유) + 숙소 종류(하나라도 일치) 조건 판별기
+     * 조건은 비트맵 AND / OR 로 한 번만 계산하고, 숙소별 판별은 비트 1개 확인
+     * @param facilityMask 필요한 편의시설 비트마스크 (AccommodationFacility.maskOf)
+     * @param categoryCodes 허용 카테고리 코드 (비어 있으면 조건 없음)
+     * @return 숙소 ID -> 조건 만족 여부
+     */
+    public IntPredicate facilityCategoryFilter(long facilityMask, Collection<String> categoryCodes) {
+        Snapshot current = snapshot();
+        long[] bitmap = current.facilities.filter(facilityMask, categoryCodes);
+        if (bitmap == null) {
+            return accommodationId -> true;
+        }
+        return accommodationId -> {
+            int ordinal = Arrays.binarySearch(current.ids, accommodationId);
+            return ordinal >= 0 && FacilityBitmapIndex.contains(bitmap, ordinal);
+        };
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 숙소명 / 지역명 자동완성 (인기순)
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (SuggestTrie.MAX_SUGGESTIONS 이하)
+     * @return 자동완성 리스트
+     */
+    public List<AccommodationSuggestion> suggest(String prefix, int limit) {
+        Snapshot current = snapshot();
+        int[] found = current.suggestTrie.suggest(prefix);
+        List<AccommodationSuggestion> result = new ArrayList<>(Math.min(limit, found.length));
+        for (int i = 0; i < found.length && i < limit; i++) {
+            result.add(current.suggestions[found[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 반경 내 숙소 조회 (가까운 순)
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param radiusMeters 반경 (m)
+     */
+    public List<GeoHit> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        return snapshot().geo.withinRadius(latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 가까운 숙소 k개 조회 (가까운 순)
+     */
+    public List<GeoHit> findNearest(double latitude, double longitude, int k) {
+        return snapshot().geo.nearest(latitude, longitude, k);
+    }
+
+    /**
+     * 지도 화면 영역 내 숙소 조회
+     */
+    public List<GeoHit> findInBoundingBox(double minLatitude, double minLongitude,
+                                          double maxLatitude, double maxLongitude) {
+        return snapshot().geo.withinBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 특정 시점의 숙소 목록과 그 위에 만든 인덱스 묶음
+     */
+    private static class Snapshot {
+        // ordinal -> 숙소 ID (숙소 ID 오름차순, 이진 탐색으로 역조회)
+        private final int[] ids;
+        private final Map<Integer, AccommodationIndexRow> rowsById;
+        private final GeoGridIndex geo;
+        private final NgramIndex keyword;
+        private final FuzzyKeywordIndex fuzzy;
+        private final FacilityBitmapIndex facilities;
+        private final AccommodationSuggestion[] suggestions;
+        private final SuggestTrie suggestTrie;
+
+        private Snapshot(List<AccommodationIndexRow> rows) {
+            int size = rows.size();
+            int[] ids = new int[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            String[] documents = new String[size];
+            String[] names = new String[size];
+            String[] addresses = new String[size];
+
+            this.rowsById = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                AccommodationIndexRow row = rows.get(i);
+                ids[i] = row.getAccommodationId();
+                latitudes[i] = row.getAccommodationLatitude() == null ? Double.NaN : row.getAccommodationLatitude();
+                longitudes[i] = row.getAccommodationLongitude() == null ? Double.NaN : row.getAccommodationLongitude();
+                names[i] = nullToEmpty(row.getAccommodationName());
+                addresses[i] = nullToEmpty(row.getAccommodationAddress());
+                documents[i] = names[i] + NgramIndex.FIELD_SEPARATOR + addresses[i];
+                rowsById.put(row.getAccommodationId(), row);
+            }
+            this.ids = ids;
+            this.geo = new GeoGridIndex(ids, latitudes, longitudes);
+            this.keyword = new NgramIndex(documents);
+            this.fuzzy = new FuzzyKeywordIndex(names, addresses);
+            this.facilities = new FacilityBitmapIndex(rows);
+
+            // 자동완성 후보 : 숙소명(리뷰 수) + 지역명(소속 숙소 수 + 리뷰 수)
+            Map<String, Long> regionScores = new LinkedHashMap<>();
+            for (AccommodationIndexRow row : rows) {
+                for (String region : RegionNormalizer.regionsOf(row.getAccommodationAddress())) {
+                    regionScores.merge(region, 1L + row.getReviewCount(), Long::sum);
+                }
+            }
+            this.suggestions = new AccommodationSuggestion[size + regionScores.size()];
+            long[] scores = new long[suggestions.length];
+            for (int i = 0; i < size; i++) {
+                AccommodationIndexRow row = rows.get(i);
+                suggestions[i] = new AccommodationSuggestion(
+                        "ACCOMMODATION", row.getAccommodationName(), row.getAccommodationId());
+                scores[i] = row.getReviewCount();
+            }
+            int next = size;
+            for (Map.Entry<String, Long> entry : regionScores.entrySet()) {
+                suggestions[next] = new AccommodationSuggestion("REGION", entry.getKey(), null);
+                scores[next] = entry.getValue();
+                next++;
+            }
+
+            // 숙소명 / 지역명은 단어 시작 위치마다 등록 ("강남" 으로 "서울 강남구" 도 찾도록)
+            this.suggestTrie = new SuggestTrie(scores);
+            for (int i = 0; i < suggestions.length; i++) {
+                String text = suggestions[i].getText();
+                if (text == null) {
+                    continue;
+                }
+                String[] words = text.trim().split("\\s+");
+                StringBuilder key = new StringBuilder();
+                for (int w = words.length - 1; w >= 0; w--) {
+                    key.insert(0, words[w]);
+                    suggestTrie.insert(key.toString(), i);
+                }
+            }
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
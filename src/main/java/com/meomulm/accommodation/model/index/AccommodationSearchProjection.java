@@ -0,0 +1,149 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.accommodation.model.event.AccommodationChangedEvent;
+import com.meomulm.accommodation.model.mapper.AccommodationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 숙소 검색용 집계 읽기 모델 (최저가 / 평점 합계 / 리뷰 수)
+ *
+ * 검색할 때마다 숙소별 MIN / AVG / COUNT 서브쿼리를 돌리지 않도록
+ * 숙소별 집계를 메모리에 유지한다.
+ * 전체 값은 검색 인덱스 갱신 시 함께 다시 적재하고, 그 사이의 리뷰 변경은
+ * 커밋 이후 AccommodationChangedEvent 로 해당 숙소의 리뷰 집계만 다시 읽어 갱신한다.
+ * 객실 가격은 쓰는 API 가 없어서 인덱스 재적재(accommodation.index.refresh-ms) 때만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationSearchProjection {
+
+    private final AccommodationMapper accommodationMapper;
+
+    private volatile ConcurrentHashMap<Integer, Stats> statsById = new ConcurrentHashMap<>();
+
+    // 부분 갱신과 전체 교체를 순서대로 처리하기 위한 잠금 (DB 조회를 잡고 기다리므로 가상 스레드를 고정하지 않는 ReentrantLock)
+    private final ReentrantLock patchLock = new ReentrantLock();
+    // 재적재 중에 리뷰가 바뀐 숙소 (재적재 중이 아니면 null, patchLock 으로 보호)
+    private Set<Integer> pendingPatches;
+
+    /**
+     * 검색 인덱스 전체 갱신 시 집계 전체 교체
+     * 읽는 동안 리뷰가 바뀐 숙소는 교체와 같은 잠금 안에서 다시 읽어 새 집계에 반영한다.
+     * (전체 조회가 그 리뷰 커밋 전에 읽었을 수 있으므로)
+     * @param loader 인덱스 적재용 숙소 전체 조회
+     * @return 조회한 숙소 전체 (검색 인덱스 생성에 그대로 사용)
+     */
+    public List<AccommodationIndexRow> reload(Supplier<List<AccommodationIndexRow>> loader) {
+        patchLock.lock();
+        try {
+            pendingPatches = new HashSet<>();
+        } finally {
+            patchLock.unlock();
+        }
+
+        List<AccommodationIndexRow> rows;
+        try {
+            rows = loader.get();
+        } catch (RuntimeException e) {
+            patchLock.lock();
+            try {
+                pendingPatches = null;
+            } finally {
+                patchLock.unlock();
+            }
+            throw e;
+        }
+
+        ConcurrentHashMap<Integer, Stats> loaded = new ConcurrentHashMap<>(rows.size() * 2);
+        for (AccommodationIndexRow row : rows) {
+            loaded.put(row.getAccommodationId(),
+                    new Stats(row.getMinPrice(), row.getRatingSum(), row.getReviewCount()));
+        }
+
+        int replayed;
+        patchLock.lock();
+        try {
+            replayed = pendingPatches.size();
+            for (int accommodationId : pendingPatches) {
+                patch(loaded, accommodationId);
+            }
+            pendingPatches = null;
+            this.statsById = loaded;
+        } finally {
+            patchLock.unlock();
+        }
+        if (replayed > 0) {
+            log.info("💡 숙소 검색 집계 재적재 중 변경된 숙소 재반영 - {}건", replayed);
+        }
+        return rows;
+    }
+
+    /**
+     * 숙소 집계 조회
+     * @param accommodationId 숙소 ID
+     * @return 집계 (없으면 빈 집계)
+     */
+    public Stats get(int accommodationId) {
+        return statsById.getOrDefault(accommodationId, Stats.EMPTY);
+    }
+
+    /**
+     * 리뷰 변경 반영 (커밋 이후, 이 집계를 읽는 캐시보다 먼저 실행)
+     * 증감 대신 커밋된 리뷰 집계를 다시 읽으므로, 재적재 후 다시 반영해도 두 번 세지 않는다.
+     * 재적재 중이면 기록해 두었다가 새 집계로 교체할 때 다시 읽어 반영한다.
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        patchLock.lock();
+        try {
+            if (pendingPatches != null) {
+                pendingPatches.add(event.getAccommodationId());
+            }
+            patch(statsById, event.getAccommodationId());
+        } finally {
+            patchLock.unlock();
+        }
+        log.info("✅ 숙소 검색 집계 반영 - {}", event);
+    }
+
+    /**
+     * 숙소 1개의 리뷰 집계를 다시 읽어서 반영 (최저가는 유지, patchLock 안에서 호출)
+     */
+    private void patch(Map<Integer, Stats> target, int accommodationId) {
+        AccommodationIndexRow reviewStats = accommodationMapper.selectAccommodationReviewStats(accommodationId);
+        target.compute(accommodationId, (id, stats) -> new Stats(
+                stats == null ? null : stats.minPrice(), reviewStats.getRatingSum(), reviewStats.getReviewCount()));
+    }
+
+    /**
+     * 숙소 1건의 집계
+     * @param minPrice 객실 최저가 (객실이 없으면 null)
+     * @param ratingSum 평점 합계
+     * @param reviewCount 리뷰 수
+     */
+    public record Stats(Integer minPrice, long ratingSum, int reviewCount) {
+
+        public static final Stats EMPTY = new Stats(null, 0, 0);
+
+        // 평균 평점 (리뷰가 없으면 0)
+        public double avgRating() {
+            return reviewCount == 0 ? 0 : (double) ratingSum / reviewCount;
+        }
+    }
+}
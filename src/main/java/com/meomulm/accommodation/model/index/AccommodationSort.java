@@ -0,0 +1,36 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.common.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * 숙소 목록 정렬 기준
+ */
+public enum AccommodationSort {
+    // 최신 등록 순 (숙소 ID 내림차순)
+    LATEST,
+    // 최저가 낮은 순 (객실 없는 숙소는 마지막)
+    PRICE,
+    // 평균 평점 높은 순
+    RATING,
+    // 현위치에서 가까운 순
+    DISTANCE;
+
+    /**
+     * 요청 값으로 정렬 기준 결정
+     * @param value 요청 값 (대소문자 무관)
+     * @param defaultSort 값이 없을 때 사용할 기준
+     * @return 정렬 기준
+     */
+    public static AccommodationSort from(String value, AccommodationSort defaultSort) {
+        if (value == null || value.isBlank()) {
+            return defaultSort;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 정렬 기준입니다: " + value);
+        }
+    }
+}
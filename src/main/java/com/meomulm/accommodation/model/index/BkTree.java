@@ -0,0 +1,122 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-tree
+ *
+ * 삼각 부등식으로 "질의어와의 거리 ± 허용 거리" 범위의 자식만 내려가므로
+ * 전체 단어를 비교하지 않고 허용 거리 이내의 단어를 찾는다.
+ * 조회 시 거리 계산은 "허용 거리 + 가장 먼 자식 간선" 에서 끊는다 - 그보다 멀면 일치도 아니고 내려갈 자식도 없다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class BkTree {
+
+    private Node root;
+
+    /**
+     * 단어 등록
+     * @param term 비교할 문자열 (자모 분해된 문자열)
+     * @param termId 호출자가 관리하는 단어 번호
+     */
+    public void add(String term, int termId) {
+        if (root == null) {
+            root = new Node(term, termId);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term, termId));
+                node.maxChildDistance = Math.max(node.maxChildDistance, distance);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * 허용 거리 이내 단어 조회
+     * @param query 질의어 (자모 분해된 문자열)
+     * @param maxDistance 허용 편집 거리
+     * @return 단어 번호 리스트
+     */
+    public List<Integer> search(String query, int maxDistance) {
+        List<Integer> result = new ArrayList<>();
+        if (root == null) {
+            return result;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // 자식이 없으면 허용 거리에서 끊는다 (넘으면 limit + 1 이 나와 일치 / 자식 범위 모두 비게 됨)
+            int distance = distance(query, node.term, maxDistance + node.maxChildDistance);
+            if (distance <= maxDistance) {
+                result.add(node.termId);
+            }
+            int maxChild = Math.min(distance + maxDistance, node.maxChildDistance);
+            for (int d = Math.max(1, distance - maxDistance); d <= maxChild; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Levenshtein 거리 (행 최솟값이 limit 를 넘으면 limit + 1 로 조기 종료)
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+        return previous[b.length()];
+    }
+
+    private static class Node {
+        private final String term;
+        private final int termId;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+        // 자식 간선 거리 최댓값 (자식이 없으면 0)
+        private int maxChildDistance;
+
+        private Node(String term, int termId) {
+            this.term = term;
+            this.termId = termId;
+        }
+    }
+}
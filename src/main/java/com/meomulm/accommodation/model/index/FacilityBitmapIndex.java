@@ -0,0 +1,96 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편의시설 / 숙소 종류 필터용 비트맵 인덱스
+ *
+ * 문서 번호(ordinal) 1개 = 비트 1개인 long[] 비트맵을 편의시설별, 카테고리별로 만들어 두고
+ * 편의시설 여러 개는 AND, 숙소 종류 여러 개는 OR 를 64개 단위(word)로 계산한다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class FacilityBitmapIndex {
+
+    private final int size;
+    private final int words;
+    // 편의시설 ordinal -> 보유 숙소 비트맵
+    private final long[][] facilityBitmaps;
+    // 카테고리 코드 -> 해당 숙소 비트맵
+    private final Map<String, long[]> categoryBitmaps = new HashMap<>();
+
+    public FacilityBitmapIndex(List<AccommodationIndexRow> rows) {
+        this.size = rows.size();
+        this.words = (size + 63) >>> 6;
+        this.facilityBitmaps = new long[AccommodationFacility.values().length][words];
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            AccommodationIndexRow row = rows.get(ordinal);
+            long mask = AccommodationFacility.maskOf(row);
+            for (AccommodationFacility facility : AccommodationFacility.values()) {
+                if ((mask & facility.bit()) != 0) {
+                    set(facilityBitmaps[facility.ordinal()], ordinal);
+                }
+            }
+            if (row.getCategoryCode() != null) {
+                set(categoryBitmaps.computeIfAbsent(row.getCategoryCode(), k -> new long[words]), ordinal);
+            }
+        }
+    }
+
+    /**
+     * 편의시설(AND) + 숙소 종류(OR) 조건을 모두 만족하는 문서 비트맵
+     * @param facilityMask 필요한 편의시설 비트마스크 (0 이면 조건 없음)
+     * @param categoryCodes 허용 카테고리 코드 (비어 있으면 조건 없음)
+     * @return 조건 만족 문서 비트맵 (조건이 하나도 없으면 null)
+     */
+    public long[] filter(long facilityMask, Collection<String> categoryCodes) {
+        boolean byCategory = categoryCodes != null && !categoryCodes.isEmpty();
+        if (facilityMask == 0L && !byCategory) {
+            return null;
+        }
+
+        long[] result = new long[words];
+        if (byCategory) {
+            for (String code : categoryCodes) {
+                long[] bitmap = categoryBitmaps.get(code);
+                if (bitmap != null) {
+                    for (int w = 0; w < words; w++) {
+                        result[w] |= bitmap[w];
+                    }
+                }
+            }
+        } else {
+            for (int w = 0; w < words; w++) {
+                result[w] = -1L;
+            }
+            if ((size & 63) != 0) {
+                result[words - 1] = (1L << (size & 63)) - 1;
+            }
+        }
+
+        for (AccommodationFacility facility : AccommodationFacility.values()) {
+            if ((facilityMask & facility.bit()) == 0) {
+                continue;
+            }
+            long[] bitmap = facilityBitmaps[facility.ordinal()];
+            for (int w = 0; w < words; w++) {
+                result[w] &= bitmap[w];
+            }
+        }
+        return result;
+    }
+
+    public static boolean contains(long[] bitmap, int ordinal) {
+        return (bitmap[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    private static void set(long[] bitmap, int ordinal) {
+        bitmap[ordinal >>> 6] |= 1L << ordinal;
+    }
+}
@@ -0,0 +1,114 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 초성 검색 + 오타 허용 검색용 인덱스
+ *
+ * - 초성 : 숙소명 / 주소를 초성 문자열로 바꿔 n-gram 색인 ("ㅅㅇ" -> 서울)
+ * - 오타 : 숙소명 / 주소 앞부분(지역명) 단어를 자모 단위로 분해해 BK-tree 에 넣고
+ *          허용 편집 거리 이내 단어를 가진 문서를 찾는다. ("서룰" -> 서울)
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class FuzzyKeywordIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final NgramIndex chosung;
+    private final BkTree terms = new BkTree();
+    // 단어 번호 -> 그 단어를 가진 문서 번호 오름차순 배열
+    private final int[][] termPostings;
+
+    /**
+     * @param names 문서 번호별 숙소명
+     * @param addresses 문서 번호별 주소
+     */
+    public FuzzyKeywordIndex(String[] names, String[] addresses) {
+        String[] chosungDocuments = new String[names.length];
+        Map<String, TreeSet<Integer>> postingsByTerm = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            chosungDocuments[ordinal] = HangulJamo.toChosung(names[ordinal])
+                    + NgramIndex.FIELD_SEPARATOR + HangulJamo.toChosung(addresses[ordinal]);
+
+            List<String> words = new ArrayList<>();
+            if (names[ordinal] != null) {
+                words.addAll(Arrays.asList(names[ordinal].trim().split("\\s+")));
+            }
+            if (addresses[ordinal] != null && !addresses[ordinal].isBlank()) {
+                // 주소는 광역시/도 (정규화 전후) + 시군구 + 읍면동 단어까지만
+                String[] tokens = addresses[ordinal].trim().split("\\s+");
+                words.add(RegionNormalizer.normalizeProvince(tokens[0]));
+                words.addAll(Arrays.asList(tokens).subList(0, Math.min(3, tokens.length)));
+            }
+            for (String word : words) {
+                String term = HangulJamo.decompose(word);
+                if (!term.isEmpty()) {
+                    postingsByTerm.computeIfAbsent(term, k -> new TreeSet<>()).add(ordinal);
+                }
+            }
+        }
+
+        this.chosung = new NgramIndex(chosungDocuments);
+        this.termPostings = new int[postingsByTerm.size()][];
+        int termId = 0;
+        for (Map.Entry<String, TreeSet<Integer>> entry : postingsByTerm.entrySet()) {
+            terms.add(entry.getKey(), termId);
+            termPostings[termId] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            termId++;
+        }
+    }
+
+    /**
+     * 초성 검색 ("ㅅㅇ" -> 숙소명 / 주소의 초성에 "ㅅㅇ" 이 포함된 문서)
+     * @param keyword 초성으로만 이루어진 검색어
+     * @return 문서 번호 오름차순 배열
+     */
+    public int[] searchChosung(String keyword) {
+        return chosung.search(keyword == null ? "" : keyword.replaceAll("\\s+", ""));
+    }
+
+    /**
+     * 오타 허용 검색 - 검색어의 단어마다 허용 거리 이내 단어를 가진 문서의 교집합
+     * @param keyword 검색어
+     * @return 문서 번호 오름차순 배열
+     */
+    public int[] searchTypo(String keyword) {
+        String normalized = NgramIndex.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return EMPTY;
+        }
+        int[] result = null;
+        for (String word : normalized.split("\\s+")) {
+            String query = HangulJamo.decompose(word);
+            TreeSet<Integer> matched = new TreeSet<>();
+            for (int termId : terms.search(query, maxDistance(query))) {
+                for (int ordinal : termPostings[termId]) {
+                    matched.add(ordinal);
+                }
+            }
+            int[] ordinals = matched.stream().mapToInt(Integer::intValue).toArray();
+            result = result == null ? ordinals : NgramIndex.intersect(result, ordinals);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result == null ? EMPTY : result;
+    }
+
+    /**
+     * 자모 길이에 따른 허용 편집 거리 (짧은 단어는 오타 허용 시 후보가 너무 많아짐)
+     */
+    private static int maxDistance(String jamo) {
+        if (jamo.length() <= 3) {
+            return 0;
+        }
+        return jamo.length() <= 8 ? 1 : 2;
+    }
+}
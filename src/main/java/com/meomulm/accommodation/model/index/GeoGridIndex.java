@@ -0,0 +1,193 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 위도/경도 격자(grid) 기반 공간 인덱스
+ *
+ * 좌표를 CELL_DEGREES 크기의 격자 칸으로 나눠 칸별 숙소 목록을 들고 있고,
+ * 반경 / 최근접 k개 / 영역(bounding box) 조회 시 필요한 칸만 확인한 뒤
+ * 실제 거리(haversine)로 한 번 더 걸러낸다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class GeoGridIndex {
+
+    // 지구 반지름 (m)
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+    // 위도 1도의 거리 (m)
+    private static final double METERS_PER_DEGREE = 111_320d;
+    // 격자 한 칸의 크기 (도) - 위도 기준 약 5.5km
+    private static final double CELL_DEGREES = 0.05d;
+    // 최근접 조회 시 최대로 넓혀볼 격자 링 수 (약 1,100km)
+    private static final int MAX_RINGS = 200;
+
+    private final int[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, int[]> cells;
+
+    public GeoGridIndex(int[] ids, double[] latitudes, double[] longitudes) {
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (Double.isNaN(latitudes[i]) || Double.isNaN(longitudes[i])) {
+                continue;
+            }
+            buckets.computeIfAbsent(cellKey(cell(latitudes[i]), cell(longitudes[i])), k -> new ArrayList<>()).add(i);
+        }
+
+        this.cells = new HashMap<>(buckets.size() * 2);
+        for (Map.Entry<Long, List<Integer>> entry : buckets.entrySet()) {
+            this.cells.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * 반경 내 숙소 조회
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusMeters 반경 (m)
+     * @return 거리 가까운 순 결과
+     */
+    public List<GeoHit> withinRadius(double latitude, double longitude, double radiusMeters) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lonDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (int latCell = cell(latitude - latDelta); latCell <= cell(latitude + latDelta); latCell++) {
+            for (int lonCell = cell(longitude - lonDelta); lonCell <= cell(longitude + lonDelta); lonCell++) {
+                int[] members = cells.get(cellKey(latCell, lonCell));
+                if (members == null) {
+                    continue;
+                }
+                for (int i : members) {
+                    double distance = distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                    if (distance <= radiusMeters) {
+                        hits.add(new GeoHit(ids[i], distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+        return hits;
+    }
+
+    /**
+     * 가까운 숙소 k개 조회
+     * 기준 칸에서부터 링 단위로 넓혀가며, 확보한 k번째 거리보다
+     * 다음 링까지의 최소 거리가 더 멀어지면 탐색을 멈춘다.
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param k 개수
+     * @return 거리 가까운 순 결과
+     */
+    public List<GeoHit> nearest(double latitude, double longitude, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        // 거리 기준 최대 힙 - 가장 먼 결과가 맨 앞
+        PriorityQueue<GeoHit> heap = new PriorityQueue<>(
+                k, Comparator.comparingDouble(GeoHit::distanceMeters).reversed());
+
+        int centerLat = cell(latitude);
+        int centerLon = cell(longitude);
+        double cellMeters = CELL_DEGREES * METERS_PER_DEGREE
+                * Math.max(Math.cos(Math.toRadians(Math.abs(latitude) + CELL_DEGREES * MAX_RINGS)), 0.01);
+
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            for (int latCell = centerLat - ring; latCell <= centerLat + ring; latCell++) {
+                for (int lonCell = centerLon - ring; lonCell <= centerLon + ring; lonCell++) {
+                    // 링의 테두리 칸만 확인
+                    if (Math.abs(latCell - centerLat) != ring && Math.abs(lonCell - centerLon) != ring) {
+                        continue;
+                    }
+                    int[] members = cells.get(cellKey(latCell, lonCell));
+                    if (members == null) {
+                        continue;
+                    }
+                    for (int i : members) {
+                        double distance = distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                        if (heap.size() < k) {
+                            heap.add(new GeoHit(ids[i], distance));
+                        } else if (distance < heap.peek().distanceMeters()) {
+                            heap.poll();
+                            heap.add(new GeoHit(ids[i], distance));
+                        }
+                    }
+                }
+            }
+            if (heap.size() == k && heap.peek().distanceMeters() <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<GeoHit> hits = new ArrayList<>(heap);
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+        return hits;
+    }
+
+    /**
+     * 영역(bounding box) 내 숙소 조회 : 지도 화면 영역
+     * @return 숙소 ID 순 결과 (거리 = 영역 중심 기준)
+     */
+    public List<GeoHit> withinBoundingBox(double minLatitude, double minLongitude,
+                                         double maxLatitude, double maxLongitude) {
+        double centerLat = (minLatitude + maxLatitude) / 2;
+        double centerLon = (minLongitude + maxLongitude) / 2;
+
+        List<GeoHit> hits = new ArrayList<>();
+        for (int latCell = cell(minLatitude); latCell <= cell(maxLatitude); latCell++) {
+            for (int lonCell = cell(minLongitude); lonCell <= cell(maxLongitude); lonCell++) {
+                int[] members = cells.get(cellKey(latCell, lonCell));
+                if (members == null) {
+                    continue;
+                }
+                for (int i : members) {
+                    if (latitudes[i] >= minLatitude && latitudes[i] <= maxLatitude
+                            && longitudes[i] >= minLongitude && longitudes[i] <= maxLongitude) {
+                        hits.add(new GeoHit(ids[i], distanceMeters(centerLat, centerLon, latitudes[i], longitudes[i])));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingInt(GeoHit::accommodationId));
+        return hits;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (haversine, m)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    /**
+     * 공간 조회 결과 1건
+     * @param accommodationId 숙소 ID
+     * @param distanceMeters 기준점과의 거리 (m)
+     */
+    public record GeoHit(int accommodationId, double distanceMeters) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절 분해 유틸
+ *
+ * 완성형 음절(가 ~ 힣)을 초성 / 중성 / 종성 호환 자모로 나눈다.
+ * 초성 검색("ㅅㅇ" -> 서울)과 오타 허용 검색(자모 단위 편집 거리)에서 사용.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    // 종성 없음(0) 포함
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulJamo() {
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 초성만 추출 ("서울 호텔" -> "ㅅㅇㅎㅌ"), 한글이 아닌 글자는 소문자로 유지, 공백 제거
+     */
+    public static String toChosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / (21 * 28)] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자모 단위 분해 ("서울" -> "ㅅㅓㅇㅜㄹ"), 한글이 아닌 글자는 소문자로 유지, 공백 제거
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            sb.append(CHOSUNG[offset / (21 * 28)]);
+            sb.append(JUNGSUNG[(offset % (21 * 28)) / 28]);
+            if (offset % 28 != 0) {
+                sb.append(JONGSUNG[offset % 28]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 한글 자음인지 ("ㅅㅇ" -> true)
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        for (char c : text.toCharArray()) {
+            if (!Character.isWhitespace(c) && !isConsonant(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
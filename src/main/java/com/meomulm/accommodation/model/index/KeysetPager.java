@@ -0,0 +1,98 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 커서(keyset) 기반 페이지 나누기
+ *
+ * 각 항목을 (정렬 키, 숙소 ID) 오름차순으로 보고, 커서 = 이전 페이지 마지막 항목의 (정렬 키, 숙소 ID).
+ * 커서 뒤의 항목 중 가장 작은 size + 1 개만 크기 제한 힙으로 고르므로
+ * 몇 번째 페이지든 비용이 같다. (OFFSET 처럼 앞 페이지를 다시 세지 않음)
+ *
+ * 내림차순 정렬은 정렬 키에 음수를 넣어서 표현한다.
+ */
+public final class KeysetPager {
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingDouble(Entry::key).thenComparingInt(Entry::id);
+
+    private KeysetPager() {
+    }
+
+    /**
+     * 다음 페이지 조회
+     * @param entries 전체 후보 (순서 무관)
+     * @param sort 정렬 기준 (커서 검증용)
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 페이지 항목 + 다음 커서
+     */
+    public static Page page(List<Entry> entries, AccommodationSort sort, String cursor, int size) {
+        Entry after = decode(cursor, sort);
+
+        // 가장 큰 항목이 맨 앞인 힙 - size + 1 개까지만 유지
+        PriorityQueue<Entry> heap = new PriorityQueue<>(size + 1, ORDER.reversed());
+        for (Entry entry : entries) {
+            if (after != null && ORDER.compare(entry, after) <= 0) {
+                continue;
+            }
+            if (heap.size() <= size) {
+                heap.add(entry);
+            } else if (ORDER.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<Entry> sorted = new ArrayList<>(heap);
+        sorted.sort(ORDER);
+        boolean hasNext = sorted.size() > size;
+        List<Entry> items = hasNext ? sorted.subList(0, size) : sorted;
+        String nextCursor = hasNext ? encode(sort, items.get(items.size() - 1)) : null;
+        return new Page(new ArrayList<>(items), nextCursor);
+    }
+
+    private static String encode(AccommodationSort sort, Entry last) {
+        String raw = sort.name() + ":" + last.key() + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Entry decode(String cursor, AccommodationSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new BadRequestException("정렬 기준과 맞지 않는 커서입니다.");
+            }
+            return new Entry(Double.parseDouble(parts[1]), Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 정렬 대상 1건
+     * @param key 정렬 키 (오름차순)
+     * @param id 숙소 ID (같은 키일 때 순서 보장)
+     */
+    public record Entry(double key, int id) {
+    }
+
+    /**
+     * 페이지 결과
+     * @param entries 현재 페이지 항목 (정렬 순)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record Page(List<Entry> entries, String nextCursor) {
+    }
+}
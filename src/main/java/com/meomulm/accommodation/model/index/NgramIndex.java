@@ -0,0 +1,205 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부분 문자열(substring) 검색용 n-gram 역색인
+ *
+ * 문서(숙소명 + 주소)를 1글자 / 2글자 단위로 잘라 gram 별로
+ * 문서 번호(ordinal) 오름차순 배열(posting list)을 만든다.
+ * 검색어의 gram 들의 posting list 를 짧은 것부터 교집합한 뒤
+ * 실제 포함 여부를 한 번 더 확인하므로 결과는 ILIKE '%keyword%' 와 같다.
+ *
+ * 한글은 한 글자의 정보량이 커서 2-gram 으로도 후보가 충분히 좁혀지고,
+ * "서울" 같은 2글자 검색어도 그대로 처리된다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class NgramIndex {
+
+    // 필드 사이 구분자 - 정규화된 검색어에는 나올 수 없는 문자
+    public static final char FIELD_SEPARATOR = '\n';
+
+    private static final int[] EMPTY = new int[0];
+
+    // 정규화된 문서 본문 (ordinal 별)
+    private final String[] documents;
+    // gram -> 문서 번호 오름차순 배열
+    private final Map<String, int[]> postings;
+
+    public NgramIndex(String[] rawDocuments) {
+        this.documents = new String[rawDocuments.length];
+
+        Map<String, IntList> building = new HashMap<>();
+        for (int ordinal = 0; ordinal < rawDocuments.length; ordinal++) {
+            String document = rawDocuments[ordinal] == null ? "" : rawDocuments[ordinal].toLowerCase(Locale.ROOT);
+            documents[ordinal] = document;
+            for (int i = 0; i < document.length(); i++) {
+                addPosting(building, document.substring(i, i + 1), ordinal);
+                if (i + 2 <= document.length()) {
+                    addPosting(building, document.substring(i, i + 2), ordinal);
+                }
+            }
+        }
+
+        this.postings = new HashMap<>(building.size() * 2);
+        for (Map.Entry<String, IntList> entry : building.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().toArray());
+        }
+    }
+
+    /**
+     * 검색어 정규화 (소문자, 앞뒤 공백 / 제어문자 제거)
+     * @param keyword 검색어
+     * @return 정규화된 검색어 (비어 있으면 빈 문자열)
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.replaceAll("\\p{Cntrl}", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어를 포함하는 문서 번호 조회
+     * @param keyword 검색어
+     * @return 문서 번호 오름차순 배열
+     */
+    public int[] search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return EMPTY;
+        }
+        if (query.length() == 1) {
+            return postings.getOrDefault(query, EMPTY);
+        }
+
+        List<int[]> lists = new ArrayList<>(query.length());
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            int[] posting = postings.get(query.substring(i, i + 2));
+            if (posting == null) {
+                return EMPTY;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // 2-gram 교집합은 순서까지 보장하지 않으므로 실제 포함 여부 확인
+        if (query.length() == 2) {
+            return candidates;
+        }
+        int count = 0;
+        int[] verified = new int[candidates.length];
+        for (int ordinal : candidates) {
+            if (documents[ordinal].contains(query)) {
+                verified[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(verified, count);
+    }
+
+    /**
+     * 오름차순 배열 두 개의 교집합
+     * 길이 차이가 크면 짧은 쪽 기준 이진 탐색, 비슷하면 병합
+     */
+    static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int[] result = new int[a.length];
+        int count = 0;
+
+        if ((long) a.length * 16 < b.length) {
+            int from = 0;
+            for (int value : a) {
+                int found = Arrays.binarySearch(b, from, b.length, value);
+                if (found >= 0) {
+                    result[count++] = value;
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+                if (from >= b.length) {
+                    break;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    result[count++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 오름차순 배열 두 개의 합집합
+     */
+    static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            int value;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                value = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                value = b[j++];
+            } else {
+                value = a[i++];
+                j++;
+            }
+            result[count++] = value;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static void addPosting(Map<String, IntList> building, String gram, int ordinal) {
+        building.computeIfAbsent(gram, k -> new IntList()).addIfLast(ordinal);
+    }
+
+    /**
+     * 인덱스 생성용 int 가변 배열 (같은 문서 번호 중복 추가 방지)
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void addIfLast(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주소 문자열에서 지역명 추출 / 정규화
+ *
+ * "서울특별시 강남구 테헤란로 123" -> ["서울", "서울 강남구"]
+ * 광역시/도 이름은 검색창에서 쓰는 짧은 이름(서울, 경기, 제주 ...)으로 바꾼다.
+ */
+public final class RegionNormalizer {
+
+    private static final Map<String, String> PROVINCES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("서울시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"),
+            Map.entry("제주도", "제주")
+    );
+
+    private RegionNormalizer() {
+    }
+
+    /**
+     * 광역시/도 이름 정규화 ("서울특별시" -> "서울", 이미 짧은 이름이면 그대로)
+     * @param province 광역시/도 이름
+     * @return 정규화된 이름
+     */
+    public static String normalizeProvince(String province) {
+        if (province == null) {
+            return "";
+        }
+        String trimmed = province.trim();
+        return PROVINCES.getOrDefault(trimmed, trimmed);
+    }
+
+    /**
+     * 주소에서 지역명 추출
+     * @param address 숙소 주소
+     * @return [광역시/도, 광역시/도 + 시군구] (주소가 비어 있으면 빈 리스트)
+     */
+    public static List<String> regionsOf(String address) {
+        List<String> regions = new ArrayList<>(2);
+        if (address == null || address.isBlank()) {
+            return regions;
+        }
+        String[] tokens = address.trim().split("\\s+");
+        String province = normalizeProvince(tokens[0]);
+        regions.add(province);
+        if (tokens.length > 1) {
+            regions.add(province + " " + tokens[1]);
+        }
+        return regions;
+    }
+}
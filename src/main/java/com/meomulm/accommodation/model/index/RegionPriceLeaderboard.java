@@ -0,0 +1,113 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.accommodation.model.event.AccommodationIndexRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 지역별 최저가 숙소 순위 (홈 화면 지역별 가격 낮은 숙소 12개)
+ *
+ * 지역(RegionNormalizer 기준 "서울", "서울 강남구")마다 최저가 오름차순 상위 TOP_K 개 숙소 ID 를 미리 정렬해 둔다.
+ * 검색 인덱스 재적재(주기 실행) 직후 전체를 다시 계산한다 (객실 가격 변경도 이때 반영).
+ * 조회는 정렬된 배열을 그대로 돌려주므로 DB 를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionPriceLeaderboard {
+
+    // 지역별 보관 순위 수
+    public static final int TOP_K = 12;
+
+    private final AccommodationSearchIndex accommodationSearchIndex;
+    private final AccommodationSearchProjection accommodationSearchProjection;
+
+    // 지역 -> 최저가 상위 TOP_K 숙소 ID (가격 오름차순)
+    private volatile Map<String, int[]> topByRegion = Map.of();
+
+    @Order(10)
+    @EventListener
+    public void onIndexRefreshed(AccommodationIndexRefreshedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 인덱스에 적재된 숙소 전체로 지역별 순위 재계산
+     */
+    public synchronized void rebuild() {
+        Map<String, List<Integer>> building = new HashMap<>();
+        for (Integer accommodationId : accommodationSearchIndex.getAllIds()) {
+            AccommodationIndexRow row = accommodationSearchIndex.getRow(accommodationId);
+            if (row == null) {
+                continue;
+            }
+            for (String region : RegionNormalizer.regionsOf(row.getAccommodationAddress())) {
+                building.computeIfAbsent(region, k -> new ArrayList<>()).add(accommodationId);
+            }
+        }
+
+        Map<String, int[]> tops = new HashMap<>(building.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+            tops.put(entry.getKey(), topK(entry.getValue().stream().mapToInt(Integer::intValue).toArray()));
+        }
+        this.topByRegion = tops;
+        log.info("✅ 지역별 최저가 순위 재계산 완료 - regions={}", tops.size());
+    }
+
+    /**
+     * 지역 최저가 상위 숙소 조회
+     * @param region 지역명 ("서울", "서울특별시", "서울 강남구" 등)
+     * @return 가격 오름차순 숙소 ID (순위가 없는 지역이면 null)
+     */
+    public int[] top(String region) {
+        String key = normalize(region);
+        int[] ids = key.isEmpty() ? null : topByRegion.get(key);
+        return ids == null ? null : Arrays.copyOf(ids, ids.length);
+    }
+
+    /**
+     * 입력 지역명을 순위 키 형식으로 변환 ("서울특별시  강남구" -> "서울 강남구")
+     */
+    private static String normalize(String region) {
+        if (region == null || region.isBlank()) {
+            return "";
+        }
+        String[] tokens = region.trim().split("\\s+");
+        tokens[0] = RegionNormalizer.normalizeProvince(tokens[0]);
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * 최저가 오름차순 상위 TOP_K 개 (크기 제한 힙, 객실 없는 숙소는 마지막)
+     */
+    private int[] topK(int[] members) {
+        Comparator<int[]> byPrice = Comparator.<int[]>comparingInt(e -> e[1]).thenComparingInt(e -> e[0]);
+        PriorityQueue<int[]> heap = new PriorityQueue<>(TOP_K + 1, byPrice.reversed());
+        for (int accommodationId : members) {
+            Integer minPrice = accommodationSearchProjection.get(accommodationId).minPrice();
+            heap.add(new int[]{accommodationId, minPrice == null || minPrice == 0 ? Integer.MAX_VALUE : minPrice});
+            if (heap.size() > TOP_K) {
+                heap.poll();
+            }
+        }
+        List<int[]> sorted = new ArrayList<>(heap);
+        sorted.sort(byPrice);
+        int[] result = new int[sorted.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = sorted.get(i)[0];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+package com.meomulm.accommodation.model.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 검색어 자동완성용 접두사 트리(trie)
+ *
+ * 노드마다 그 접두사로 시작하는 후보 중 점수 상위 MAX_SUGGESTIONS 개를 미리 들고 있어서
+ * 조회 비용은 접두사 길이에만 비례한다. (후보 수와 무관)
+ * 키는 소문자 + 공백 제거로 정규화해서 "서울 강" / "서울강" 을 같게 본다.
+ *
+ * 생성 후에는 변경되지 않는 불변 객체 - 갱신 시 새로 만들어서 교체한다.
+ */
+public class SuggestTrie {
+
+    // 노드별로 유지하는 최대 후보 수
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Node root = new Node();
+    private final long[] scores;
+
+    /**
+     * @param scores 후보 번호별 점수 (높을수록 앞)
+     */
+    public SuggestTrie(long[] scores) {
+        this.scores = scores;
+    }
+
+    /**
+     * 키 등록 - 같은 후보를 여러 키(단어 시작 위치 등)로 등록할 수 있다.
+     * @param key 검색될 문자열
+     * @param suggestion 후보 번호
+     */
+    public void insert(String key, int suggestion) {
+        String normalized = normalize(key);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = node.children.computeIfAbsent(normalized.charAt(i), c -> new Node());
+            node.offer(suggestion, scores);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 후보 조회
+     * @param prefix 입력 중인 검색어
+     * @return 점수 내림차순 후보 번호 (최대 MAX_SUGGESTIONS 개)
+     */
+    public int[] suggest(String prefix) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return EMPTY;
+        }
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.children.get(normalized.charAt(i));
+        }
+        return node == null ? EMPTY : Arrays.copyOf(node.top, node.size);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : NgramIndex.normalize(value).replaceAll("\\s+", "");
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private int[] top = EMPTY;
+        private int size;
+
+        /**
+         * 점수 내림차순을 유지하며 상위 MAX_SUGGESTIONS 개만 보관
+         */
+        private void offer(int suggestion, long[] scores) {
+            for (int i = 0; i < size; i++) {
+                if (top[i] == suggestion) {
+                    return;
+                }
+            }
+            long score = scores[suggestion];
+            if (size == MAX_SUGGESTIONS && scores[top[size - 1]] >= score) {
+                return;
+            }
+            if (size == top.length) {
+                top = Arrays.copyOf(top, Math.min(MAX_SUGGESTIONS, Math.max(2, size * 2)));
+            }
+            int position = size < MAX_SUGGESTIONS ? size++ : size - 1;
+            while (position > 0 && scores[top[position - 1]] < score) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = suggestion;
+        }
+    }
+}
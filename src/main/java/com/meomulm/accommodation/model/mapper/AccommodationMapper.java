@@ -3,9 +3,9 @@ package com.meomulm.accommodation.model.mapper;
 
 import com.meomulm.accommodation.model.dto.AccommodationDetail;
 import com.meomulm.accommodation.model.dto.AccommodationImage;
-import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
-import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -17,22 +17,15 @@ public interface AccommodationMapper {
     // 숙소 아이디를 기반으로 이미지 리스트 반환
     List<AccommodationImage> selectAccommodationImagesById(int accommodationId);
 
-    // 숙소명, 지역명으로 숙소 검색
-    List<SearchAccommodationResponse> selectAccommodationByKeyword(String keyword);
+    // 숙소 아이디 리스트를 기반으로 숙소별 최대 limit 개의 이미지 리스트 일괄 반환
+    List<AccommodationImage> selectAccommodationImagesByIds(@Param("ids") List<Integer> ids,
+                                                            @Param("limit") int limit);
 
+    // 검색 인덱스 적재용 숙소 전체 조회
+    List<AccommodationIndexRow> selectAccommodationIndexRows();
 
-
-    // 키워드 / 현위치 / 필터링 통합 조회
-    List<SearchAccommodationResponse> selectAccommodations(SearchAccommodationRequest request);
-
-    // 최근 본 숙소 조회
-    List<SearchAccommodationResponse> selectRecentAccommodations(List<Integer> ids);
-
-    // 지역별 가격 낮은 순 숙소 12개 조회
-    List<SearchAccommodationResponse> selectAccommodationPopularByAddress(String accommodationAddress);
-
-    // 현재 위치를 기반으로 반경 5KM 숙소 조회
-    List<SearchAccommodationResponse> selectAccommodationByLocation(double accommodationLatitude, double accommodationLongitude);
+    // 숙소 1개의 리뷰 집계 (리뷰 수 / 평점 합계만 채움, 리뷰가 없으면 0)
+    AccommodationIndexRow selectAccommodationReviewStats(int accommodationId);
 
     // 숙소 상세 검색
     AccommodationDetail selectAccommodationDetailById(int accommodationId);
@@ -2,6 +2,8 @@ package com.meomulm.accommodation.model.service;
 
 import com.meomulm.accommodation.model.dto.AccommodationDetail;
 import com.meomulm.accommodation.model.dto.AccommodationImage;
+import com.meomulm.accommodation.model.dto.AccommodationSuggestion;
+import com.meomulm.accommodation.model.dto.SearchAccommodationPage;
 import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
 import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
 
@@ -24,20 +26,29 @@ public interface AccommodationService {
      */
     List<SearchAccommodationResponse> getAccommodationByKeyword(String keyword);
 
+    /**
+     * 검색어 자동완성 : 숙소명 / 지역명 (DB 조회 없음)
+     * @param keyword 입력 중인 검색어
+     * @param limit 최대 개수
+     * @return 자동완성 리스트 (인기순)
+     */
+    List<AccommodationSuggestion> getSuggestions(String keyword, int limit);
 
     /**
-     * 키워드 / 현위치 / 필터링 통합 조회
-     * @param request
-     * @return
+     * 키워드 / 현위치 / 필터링 통합 조회 (커서 기반 페이지)
+     * @param request 검색 조건 + size / cursor / sort
+     * @return 현재 페이지 숙소 + 다음 커서
      */
-    List<SearchAccommodationResponse> searchAccommodations(SearchAccommodationRequest request);
+    SearchAccommodationPage searchAccommodations(SearchAccommodationRequest request);
 
     /**
-     * 최근 본 숙소
+     * 최근 본 숙소 (커서 기반 페이지)
      * @param ids 최근 본 숙소 아이디 리스트
-     * @return 숙소검색 DTO 리스트
+     * @param size 페이지 크기 (null 이면 기본 크기)
+     * @param cursor 이전 페이지 커서
+     * @return 현재 페이지 숙소 + 다음 커서
      */
-    List<SearchAccommodationResponse> getRecentAccommodations(List<Integer> ids);
+    SearchAccommodationPage getRecentAccommodations(List<Integer> ids, Integer size, String cursor);
 
     /**
      * 지역별 가격 낮은 숙소 12개 조회
@@ -47,12 +58,18 @@ public interface AccommodationService {
     List<SearchAccommodationResponse> getAccommodationPopularByAddress(String accommodationAddress);
 
     /**
-     * 현재위치 기반 반경 5km 내 숙소 조회 : 지도 검색
-     * @param accommodationLatitude 숙소 경도
-     * @param accommodationLongitude 숙소 위도
-     * @return 숙소검색 응답 DTO 리스트
+     * 현재위치 기반 반경 내 숙소 조회 : 지도 검색 (커서 기반 페이지)
+     * @param request 위도 / 경도 / 반경 (m, null 이면 기본 반경) + size / cursor / sort
+     * @return 현재 페이지 숙소 + 다음 커서 (기본 가까운 순)
+     */
+    SearchAccommodationPage getAccommodationByLocation(SearchAccommodationRequest request);
+
+    /**
+     * 지도 화면 영역(bounding box) 내 숙소 조회 (커서 기반 페이지)
+     * @param request 최소 / 최대 위도, 경도 + size / cursor / sort
+     * @return 현재 페이지 숙소 + 다음 커서 (기본 영역 중심에서 가까운 순)
      */
-    List<SearchAccommodationResponse> getAccommodationByLocation(double accommodationLatitude, double accommodationLongitude);
+    SearchAccommodationPage getAccommodationInBoundingBox(SearchAccommodationRequest request);
 
     /**
      * 숙소 ID로 숙소 상세정보 조회
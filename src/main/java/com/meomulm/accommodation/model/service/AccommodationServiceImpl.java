@@ -1,23 +1,81 @@
 package com.meomulm.accommodation.model.service;
 
+import com.meomulm.accommodation.model.cache.AccommodationSearchCache;
 import com.meomulm.accommodation.model.dto.AccommodationDetail;
 import com.meomulm.accommodation.model.dto.AccommodationImage;
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.accommodation.model.dto.AccommodationSuggestion;
+import com.meomulm.accommodation.model.dto.SearchAccommodationPage;
 import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
 import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
+import com.meomulm.accommodation.model.index.AccommodationAvailabilityIndex;
+import com.meomulm.accommodation.model.index.AccommodationFacility;
+import com.meomulm.accommodation.model.index.AccommodationSearchIndex;
+import com.meomulm.accommodation.model.index.AccommodationSearchProjection;
+import com.meomulm.accommodation.model.index.AccommodationSearchProjection.Stats;
+import com.meomulm.accommodation.model.index.AccommodationSort;
+import com.meomulm.accommodation.model.index.GeoGridIndex.GeoHit;
+import com.meomulm.accommodation.model.index.KeysetPager;
+import com.meomulm.accommodation.model.index.NgramIndex;
+import com.meomulm.accommodation.model.index.RegionPriceLeaderboard;
+import com.meomulm.accommodation.model.index.SuggestTrie;
 import com.meomulm.accommodation.model.mapper.AccommodationMapper;
+import com.meomulm.common.exception.BadRequestException;
 import com.meomulm.common.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AccommodationServiceImpl implements AccommodationService {
     private final AccommodationMapper accommodationMapper;
-
+    private final AccommodationSearchIndex accommodationSearchIndex;
+    private final AccommodationSearchProjection accommodationSearchProjection;
+    private final AccommodationSearchCache accommodationSearchCache;
+    private final RegionPriceLeaderboard regionPriceLeaderboard;
+    private final AccommodationAvailabilityIndex accommodationAvailabilityIndex;
+
+    // 검색 결과 목록에서 숙소당 내려줄 최대 이미지 수
+    @Value("${accommodation.search.image-limit:5}")
+    private int searchImageLimit;
+
+    // 현위치 검색 기본 반경 (m)
+    @Value("${accommodation.search.radius-meters:5000}")
+    private int defaultRadiusMeters;
+
+    // 현위치 검색 최대 반경 (m)
+    @Value("${accommodation.search.max-radius-meters:50000}")
+    private int maxRadiusMeters;
+
+    // 목록 기본 페이지 크기
+    @Value("${accommodation.search.page-size:20}")
+    private int defaultPageSize;
+
+    // 지역별 조회 기본 페이지 크기 (기존 12개 조회와 동일)
+    private static final int ADDRESS_PAGE_SIZE = 12;
+    // 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    // 날짜 유연 검색 최대 기간 (일)
+    private static final int MAX_FLEXIBLE_WINDOW_DAYS = 31;
+    // 가까운 숙소 k개 조회 최대 개수
+    private static final int MAX_NEAREST = 100;
 
     /**
      * 숙소 ID로 숙소 대표이미지 1개 조회
@@ -46,18 +104,217 @@ public class AccommodationServiceImpl implements AccommodationService {
 
     /**
      * 각 숙소검색 응답 DTO의 이미지 변수(accommodationImages)에 숙소 이미지 리스트 저장
+     * 숙소마다 쿼리를 보내지 않고 IN 쿼리 1번으로 조회한 뒤 숙소 ID 별로 묶어서 저장
      * @param responses 숙소검색 응답 DTO
      */
     private void setAccommodationImages(List<SearchAccommodationResponse> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return;
+        }
+
+        LinkedHashSet<Integer> ids = new LinkedHashSet<>();
+        for (SearchAccommodationResponse response : responses) {
+            ids.add(response.getAccommodationId());
+        }
+
+        List<AccommodationImage> images =
+                accommodationMapper.selectAccommodationImagesByIds(new ArrayList<>(ids), searchImageLimit);
+
+        Map<Integer, List<AccommodationImage>> imagesById = new HashMap<>();
+        for (AccommodationImage image : images) {
+            imagesById.computeIfAbsent(image.getAccommodationId(), k -> new ArrayList<>()).add(image);
+        }
+
         for (SearchAccommodationResponse response : responses) {
             response.setAccommodationImages(
-                    getAccommodationImagesById(response.getAccommodationId())
+                    imagesById.getOrDefault(response.getAccommodationId(), Collections.emptyList())
             );
         }
     }
 
+    /**
+     * 요청 반경 검증 (없으면 기본 반경)
+     * @param radius 요청 반경 (m)
+     * @return 사용할 반경 (m)
+     */
+    private int resolveRadius(Integer radius) {
+        if (radius == null) {
+            return defaultRadiusMeters;
+        }
+        if (radius <= 0 || radius > maxRadiusMeters) {
+            throw new BadRequestException("검색 반경은 1m 이상 " + maxRadiusMeters + "m 이하여야 합니다.");
+        }
+        return radius;
+    }
+
+    /**
+     * 가까운 숙소 개수 검증
+     * @param nearest 요청 개수 (null 이면 반경 검색)
+     * @return 사용할 개수 (반경 검색이면 null)
+     */
+    private Integer resolveNearest(Integer nearest) {
+        if (nearest == null) {
+            return null;
+        }
+        if (nearest <= 0 || nearest > MAX_NEAREST) {
+            throw new BadRequestException("가까운 숙소 개수는 1 ~ " + MAX_NEAREST + " 사이여야 합니다.");
+        }
+        return nearest;
+    }
+
+    /**
+     * 지도 화면 영역 검증 (네 값은 모두 있거나 모두 없어야 함)
+     * @param request 검색 요청
+     * @return 영역 (영역 조건이 없으면 null)
+     */
+    private BoundingBox resolveBoundingBox(SearchAccommodationRequest request) {
+        Double minLatitude = request.getMinLatitude();
+        Double minLongitude = request.getMinLongitude();
+        Double maxLatitude = request.getMaxLatitude();
+        Double maxLongitude = request.getMaxLongitude();
+        if (minLatitude == null && minLongitude == null && maxLatitude == null && maxLongitude == null) {
+            return null;
+        }
+        if (minLatitude == null || minLongitude == null || maxLatitude == null || maxLongitude == null) {
+            throw new BadRequestException("지도 영역은 최소 / 최대 위도와 경도를 모두 입력해야 합니다.");
+        }
+        if (minLatitude < -90 || maxLatitude > 90 || minLongitude < -180 || maxLongitude > 180) {
+            throw new BadRequestException("위도는 -90 ~ 90, 경도는 -180 ~ 180 사이여야 합니다.");
+        }
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new BadRequestException("지도 영역의 최소 값은 최대 값보다 클 수 없습니다.");
+        }
+        return new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    /**
+     * 지도 화면 영역
+     */
+    private record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    }
+
+    /**
+     * 요청 페이지 크기 검증 (없으면 기본 크기)
+     * @param size 요청 페이지 크기
+     * @param defaultSize 기본 크기
+     * @return 사용할 페이지 크기
+     */
+    private int resolvePageSize(Integer size, int defaultSize) {
+        if (size == null) {
+            return defaultSize;
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return size;
+    }
+
+    private static Map<Integer, Double> toDistanceMap(List<GeoHit> hits) {
+        Map<Integer, Double> distances = new LinkedHashMap<>(hits.size() * 2);
+        for (GeoHit hit : hits) {
+            distances.put(hit.accommodationId(), hit.distanceMeters());
+        }
+        return distances;
+    }
+
+    /**
+     * 정렬 기준별 정렬 키 (작을수록 앞, 내림차순은 음수)
+     * 최저가가 없는(객실 없는) 숙소는 가격순에서 마지막
+     */
+    private double sortKey(int accommodationId, AccommodationSort sort, Map<Integer, Double> distances) {
+        return switch (sort) {
+            case LATEST -> -accommodationId;
+            case PRICE -> {
+                Integer minPrice = accommodationSearchProjection.get(accommodationId).minPrice();
+                yield minPrice == null || minPrice == 0 ? Double.POSITIVE_INFINITY : minPrice;
+            }
+            case RATING -> -accommodationSearchProjection.get(accommodationId).avgRating();
+            case DISTANCE -> distances.getOrDefault(accommodationId, Double.POSITIVE_INFINITY);
+        };
+    }
+
+    /**
+     * 후보 숙소를 정렬 기준에 맞춰 커서 다음 size 개만 응답 DTO로 변환 (이미지 포함)
+     * 응답 DTO / 이미지 조회는 현재 페이지 숙소에 대해서만 수행
+     * @param ids 후보 숙소 ID
+     * @param distances 숙소 ID -> 거리 (m, 현위치 조건 없으면 null)
+     * @param sort 정렬 기준
+     * @param cursor 이전 페이지 커서
+     * @param size 페이지 크기
+     * @return 현재 페이지 숙소 + 다음 커서
+     */
+    private SearchAccommodationPage toPage(List<Integer> ids, Map<Integer, Double> distances,
+                                           AccommodationSort sort, String cursor, int size) {
+        if (sort == AccommodationSort.DISTANCE && distances == null) {
+            throw new BadRequestException("거리순 정렬은 위도와 경도가 필요합니다.");
+        }
+
+        List<KeysetPager.Entry> entries = new ArrayList<>(ids.size());
+        for (Integer accommodationId : ids) {
+            entries.add(new KeysetPager.Entry(sortKey(accommodationId, sort, distances), accommodationId));
+        }
+        KeysetPager.Page page = KeysetPager.page(entries, sort, cursor, size);
+
+        List<SearchAccommodationResponse> responses = new ArrayList<>(page.entries().size());
+        for (KeysetPager.Entry entry : page.entries()) {
+            SearchAccommodationResponse response = toSearchResponse(accommodationSearchIndex.getRow(entry.id()));
+            if (distances != null) {
+                response.setDistance(distances.get(entry.id()));
+            }
+            responses.add(response);
+        }
+        setAccommodationImages(responses);
+        return new SearchAccommodationPage(responses, page.nextCursor());
+    }
+
+    /**
+     * 인덱스에 적재된 숙소 정보를 숙소검색 응답 DTO로 변환
+     * @param row 인덱스 숙소 정보
+     * @return 숙소검색 응답 DTO
+     */
+    private SearchAccommodationResponse toSearchResponse(AccommodationIndexRow row) {
+        Stats stats = accommodationSearchProjection.get(row.getAccommodationId());
+        SearchAccommodationResponse response = new SearchAccommodationResponse();
+        response.setAccommodationId(row.getAccommodationId());
+        response.setAccommodationName(row.getAccommodationName());
+        response.setAccommodationAddress(row.getAccommodationAddress());
+        response.setAccommodationLatitude(row.getAccommodationLatitude() == null ? 0 : row.getAccommodationLatitude());
+        response.setAccommodationLongitude(row.getAccommodationLongitude() == null ? 0 : row.getAccommodationLongitude());
+        response.setMinPrice(stats.minPrice() == null ? 0 : stats.minPrice());
+        response.setAvgRating(stats.avgRating());
+        response.setReviewCount(stats.reviewCount());
+        response.setCategoryCode(row.getCategoryCode());
+        return response;
+    }
+
+    /**
+     * 주소 / 가격 필터 (숙소 종류 / 편의시설은 비트맵 인덱스에서 따로 판별)
+     * 가격은 요청마다 MIN 서브쿼리를 돌리지 않고 집계 프로젝션 값을 사용
+     * @param row 인덱스 숙소 정보
+     * @param request 검색 조건
+     * @return 조건 만족 여부
+     */
+    private boolean matchesFilters(AccommodationIndexRow row, SearchAccommodationRequest request) {
+        Integer minPrice = accommodationSearchProjection.get(row.getAccommodationId()).minPrice();
+
+        if (request.getMinPrice() != null && request.getMinPrice() > 0
+                && (minPrice == null || minPrice < request.getMinPrice())) {
+            return false;
+        }
+        if (request.getMaxPrice() != null && request.getMaxPrice() > 0
+                && (minPrice == null || minPrice > request.getMaxPrice())) {
+            return false;
+        }
+        if (request.getAccommodationAddress() != null && !request.getAccommodationAddress().isEmpty()) {
+            String address = row.getAccommodationAddress() == null ? "" : row.getAccommodationAddress().toLowerCase();
+            return address.contains(request.getAccommodationAddress().trim().toLowerCase());
+        }
+        return true;
+    }
+
     /**
      * 키워드로 숙소 검색 : 돋보기 검색
+     * DB ILIKE 대신 인메모리 n-gram 색인에서 조회
      * @param keyword 숙소명 또는 지역명
      * @return 숙소검색 응답 DTO 리스트
      */
@@ -65,71 +322,299 @@ public class AccommodationServiceImpl implements AccommodationService {
     public List<SearchAccommodationResponse> getAccommodationByKeyword(String keyword) {
         log.info("💡 숙소명, 지역명 숙소 검색 시작 - keyword={}", keyword);
 
-        List<SearchAccommodationResponse> searchAccommodationResponse =
-                accommodationMapper.selectAccommodationByKeyword(keyword);
-        if (searchAccommodationResponse == null
-                || searchAccommodationResponse.isEmpty()) {
+        List<SearchAccommodationResponse> searchAccommodationResponse = new ArrayList<>();
+        for (Integer accommodationId : accommodationSearchIndex.findByKeyword(keyword)) {
+            AccommodationIndexRow row = accommodationSearchIndex.getRow(accommodationId);
+            if (row != null) {
+                searchAccommodationResponse.add(toSearchResponse(row));
+            }
+        }
+        if (searchAccommodationResponse.isEmpty()) {
             log.warn("❌ 숙소명, 지역명 숙소 검색 결과 없음 - keyword={}", keyword);
             throw new NotFoundException("해당 숙소가 존재하지 않습니다.");
         }
         setAccommodationImages(searchAccommodationResponse);
         log.info("✅ 숙소명, 지역명 숙소 검색 완료 - resultCount={}",
                 searchAccommodationResponse.size());
-        log.info("✅ 조회 결과 - {}", searchAccommodationResponse);
         return searchAccommodationResponse;
     }
 
 
+    /**
+     * 검색어 자동완성 : 숙소명 / 지역명
+     * 요청 경로에서 DB 를 조회하지 않고 인메모리 접두사 트리만 사용
+     * @param keyword 입력 중인 검색어
+     * @param limit 최대 개수
+     * @return 자동완성 리스트 (인기순, 없으면 빈 리스트)
+     */
+    @Override
+    public List<AccommodationSuggestion> getSuggestions(String keyword, int limit) {
+        if (limit <= 0 || limit > SuggestTrie.MAX_SUGGESTIONS) {
+            throw new BadRequestException("자동완성 개수는 1 ~ " + SuggestTrie.MAX_SUGGESTIONS + " 사이여야 합니다.");
+        }
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return accommodationSearchIndex.suggest(keyword, limit);
+    }
+
+
     /**
      * 키워드 / 현위치 / 필터링 통합 조회
-     * @param request 통합 dto
-     * @return 숙소검색 응답 DTO 리스트
+     * 인메모리 인덱스 + 집계 프로젝션만 사용하고 DB 는 이미지 조회에만 사용
+     * 커서(keyset) 기반으로 size 개씩 잘라서 반환
+     * @param request 통합 dto (size / cursor / sort 포함)
+     * @return 현재 페이지 숙소 + 다음 커서
      */
     @Override
-    public List<SearchAccommodationResponse> searchAccommodations(SearchAccommodationRequest request) {
+    public SearchAccommodationPage searchAccommodations(SearchAccommodationRequest request) {
         log.info("💡 숙소 검색 시작 - 조건: {}", request);
 
-        // 1. 매퍼 호출 (동적 쿼리 수행)
-        List<SearchAccommodationResponse> responses = accommodationMapper.selectAccommodations(request);
+        // 같은 의미의 요청은 같은 키가 되도록 정규화한 뒤 결과 캐시 조회
+        return accommodationSearchCache.get(canonicalize(request), this::search);
+    }
 
-        if (responses == null || responses.isEmpty()) {
+    /**
+     * 검색 요청 정규화 (결과 캐시 키 겸 실제 검색 조건)
+     * 키워드 / 주소 공백 제거 + 소문자, 리스트는 중복 제거 후 정렬, 좌표는 소수점 4자리(약 11m)로 반올림
+     * @param request 검색 요청
+     * @return 정규화된 새 요청 객체
+     */
+    private SearchAccommodationRequest canonicalize(SearchAccommodationRequest request) {
+        SearchAccommodationRequest canonical = new SearchAccommodationRequest();
+        canonical.setKeyword(blankToNull(NgramIndex.normalize(request.getKeyword())));
+        canonical.setFuzzy(Boolean.TRUE.equals(request.getFuzzy()) ? Boolean.TRUE : null);
+        canonical.setAccommodationAddress(blankToNull(NgramIndex.normalize(request.getAccommodationAddress())));
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            canonical.setLatitude(roundCoordinate(request.getLatitude()));
+            canonical.setLongitude(roundCoordinate(request.getLongitude()));
+            canonical.setNearest(resolveNearest(request.getNearest()));
+            // 가까운 k개 조회면 반경은 쓰지 않음
+            canonical.setRadius(canonical.getNearest() == null ? resolveRadius(request.getRadius()) : null);
+        }
+        BoundingBox box = resolveBoundingBox(request);
+        if (box != null) {
+            canonical.setMinLatitude(roundCoordinate(box.minLatitude()));
+            canonical.setMinLongitude(roundCoordinate(box.minLongitude()));
+            canonical.setMaxLatitude(roundCoordinate(box.maxLatitude()));
+            canonical.setMaxLongitude(roundCoordinate(box.maxLongitude()));
+        }
+
+        if (request.getFacilities() != null && !request.getFacilities().isEmpty()) {
+            TreeSet<String> facilities = new TreeSet<>();
+            for (String facility : request.getFacilities()) {
+                facilities.add(AccommodationFacility.from(facility).getColumn());
+            }
+            canonical.setFacilities(new ArrayList<>(facilities));
+        }
+        if (request.getTypes() != null && !request.getTypes().isEmpty()) {
+            TreeSet<String> types = new TreeSet<>();
+            for (String type : request.getTypes()) {
+                if (type != null && !type.isBlank()) {
+                    types.add(type.trim());
+                }
+            }
+            canonical.setTypes(types.isEmpty() ? null : new ArrayList<>(types));
+        }
+        canonical.setMinPrice(request.getMinPrice() != null && request.getMinPrice() > 0 ? request.getMinPrice() : null);
+        canonical.setMaxPrice(request.getMaxPrice() != null && request.getMaxPrice() > 0 ? request.getMaxPrice() : null);
+
+        StayWindow stay = resolveStayWindow(request);
+        if (stay.checkIn() != null) {
+            canonical.setCheckInDate(stay.checkIn().toString());
+            canonical.setCheckOutDate(stay.checkOut().toString());
+            canonical.setNights(request.getNights());
+        }
+        canonical.setGuestCount(request.getGuestCount());
+
+        canonical.setSize(request.getSize());
+        canonical.setCursor(blankToNull(request.getCursor()));
+        canonical.setSort(blankToNull(request.getSort() == null ? null : request.getSort().trim().toUpperCase()));
+        return canonical;
+    }
+
+    /**
+     * 숙박 조건 검증 (체크인 / 체크아웃은 둘 다 있거나 둘 다 없어야 함)
+     * @param request 검색 요청
+     * @return 숙박 기간 (날짜 조건이 없으면 null 날짜)
+     */
+    private StayWindow resolveStayWindow(SearchAccommodationRequest request) {
+        if (request.getGuestCount() != null && request.getGuestCount() <= 0) {
+            throw new BadRequestException("인원수는 1명 이상이어야 합니다.");
+        }
+        String checkInDate = blankToNull(request.getCheckInDate());
+        String checkOutDate = blankToNull(request.getCheckOutDate());
+        if (checkInDate == null && checkOutDate == null) {
+            return new StayWindow(null, null);
+        }
+        if (checkInDate == null || checkOutDate == null) {
+            throw new BadRequestException("체크인과 체크아웃 날짜는 함께 입력해야 합니다.");
+        }
+        try {
+            LocalDate checkIn = LocalDate.parse(checkInDate.trim());
+            LocalDate checkOut = LocalDate.parse(checkOutDate.trim());
+            if (!checkIn.isBefore(checkOut)) {
+                throw new BadRequestException("체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+            }
+            if (checkIn.isBefore(LocalDate.now())) {
+                throw new BadRequestException("지난 날짜는 검색할 수 없습니다.");
+            }
+            if (request.getNights() != null) {
+                long windowDays = ChronoUnit.DAYS.between(checkIn, checkOut);
+                if (windowDays > MAX_FLEXIBLE_WINDOW_DAYS) {
+                    throw new BadRequestException("날짜 유연 검색 기간은 최대 " + MAX_FLEXIBLE_WINDOW_DAYS + "일입니다.");
+                }
+                if (request.getNights() <= 0 || request.getNights() > windowDays) {
+                    throw new BadRequestException("숙박일 수는 1박 이상, 검색 기간 이하여야 합니다.");
+                }
+            }
+            return new StayWindow(checkIn, checkOut);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("날짜는 yyyy-MM-dd 형식으로 입력해주세요.");
+        }
+    }
+
+    /**
+     * 숙박 기간 [checkIn, checkOut)
+     */
+    private record StayWindow(LocalDate checkIn, LocalDate checkOut) {
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static double roundCoordinate(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+
+    /**
+     * 통합 조회 본체 (캐시 미스일 때만 실행)
+     * @param request 정규화된 검색 요청
+     * @return 현재 페이지 숙소 + 다음 커서
+     */
+    private SearchAccommodationPage search(SearchAccommodationRequest request) {
+        boolean hasAddress = request.getAccommodationAddress() != null && !request.getAccommodationAddress().isBlank();
+        // 편의시설 이름은 허용 목록만 받음 (후보 조회 전에 검증)
+        long facilityMask = AccommodationFacility.maskOf(request.getFacilities());
+
+        // 1. 키워드 / 지역 / 현위치 조건은 인메모리 인덱스에서 후보 숙소를 먼저 추림
+        List<Integer> candidateIds = null;
+        if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
+            candidateIds = accommodationSearchIndex.findByKeyword(
+                    request.getKeyword(), Boolean.TRUE.equals(request.getFuzzy()));
+        }
+        if (hasAddress) {
+            List<Integer> addressIds = accommodationSearchIndex.findByKeyword(request.getAccommodationAddress());
+            if (candidateIds == null) {
+                candidateIds = addressIds;
+            } else {
+                candidateIds.retainAll(new HashSet<>(addressIds));
+            }
+        }
+
+        Map<Integer, Double> distances = null;
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            // nearest 가 있으면 가까운 k개 중에서, 없으면 반경 안에서 나머지 조건을 확인
+            distances = toDistanceMap(request.getNearest() != null
+                    ? accommodationSearchIndex.findNearest(
+                            request.getLatitude(), request.getLongitude(), request.getNearest())
+                    : accommodationSearchIndex.findWithinRadius(
+                            request.getLatitude(), request.getLongitude(), resolveRadius(request.getRadius())));
+            if (candidateIds == null) {
+                candidateIds = new ArrayList<>(distances.keySet());
+            } else {
+                candidateIds.retainAll(distances.keySet());
+            }
+        }
+        BoundingBox box = resolveBoundingBox(request);
+        if (box != null) {
+            Map<Integer, Double> boxDistances = toDistanceMap(accommodationSearchIndex.findInBoundingBox(
+                    box.minLatitude(), box.minLongitude(), box.maxLatitude(), box.maxLongitude()));
+            if (candidateIds == null) {
+                candidateIds = new ArrayList<>(boxDistances.keySet());
+            } else {
+                candidateIds.retainAll(boxDistances.keySet());
+            }
+            // 현위치가 없으면 거리는 영역 중심 기준
+            if (distances == null) {
+                distances = boxDistances;
+            }
+        }
+
+        if (candidateIds == null) {
+            candidateIds = accommodationSearchIndex.getAllIds();
+        }
+
+        // 2. 숙소 종류 / 편의시설 / 숙박 조건은 비트맵, 가격 / 주소는 숙소별 확인
+        IntPredicate bitmapFilter =
+                accommodationSearchIndex.facilityCategoryFilter(facilityMask, request.getTypes());
+        StayWindow stay = resolveStayWindow(request);
+        if (stay.checkIn() != null || request.getGuestCount() != null) {
+            bitmapFilter = bitmapFilter.and(stay.checkIn() != null && request.getNights() != null
+                    ? accommodationAvailabilityIndex.availableAccommodations(
+                            stay.checkIn(), stay.checkOut(), request.getNights(), request.getGuestCount())
+                    : accommodationAvailabilityIndex.availableAccommodations(
+                            stay.checkIn(), stay.checkOut(), request.getGuestCount()));
+        }
+        List<Integer> matchedIds = new ArrayList<>();
+        for (Integer accommodationId : candidateIds) {
+            if (!bitmapFilter.test(accommodationId)) {
+                continue;
+            }
+            AccommodationIndexRow row = accommodationSearchIndex.getRow(accommodationId);
+            if (row != null && matchesFilters(row, request)) {
+                matchedIds.add(accommodationId);
+            }
+        }
+
+        if (matchedIds.isEmpty()) {
             log.warn("❌ 검색 결과 없음");
             throw new NotFoundException("조건에 맞는 숙소가 존재하지 않습니다.");
         }
 
-        // 2. 각 숙소별 이미지 설정 (기존 메서드 재사용)
-        setAccommodationImages(responses);
-
-        log.info("✅ 검색 완료 - 결과 수: {}", responses.size());
-        return responses;
+        // 3. 정렬 + 페이지 - 기본값은 지역별 조회는 최저가 순 12개, 현위치 / 지도 영역 검색은 가까운 순, 그 외 최신 등록 순
+        AccommodationSort defaultSort = hasAddress ? AccommodationSort.PRICE
+                : distances != null ? AccommodationSort.DISTANCE : AccommodationSort.LATEST;
+        SearchAccommodationPage page = toPage(matchedIds, distances,
+                AccommodationSort.from(request.getSort(), defaultSort),
+                request.getCursor(),
+                resolvePageSize(request.getSize(), hasAddress ? ADDRESS_PAGE_SIZE : defaultPageSize));
+
+        log.info("✅ 검색 완료 - 결과 수: {}, 다음 페이지: {}",
+                page.getAccommodations().size(), page.getNextCursor() != null);
+        return page;
     }
 
 
     /**
      * 최근 숙소 조회
      * @param ids 최근 본 숙소 아이디 리스트
-     * @return 숙소검색 DTO 리스트
+     * @param size 페이지 크기 (null 이면 기본 크기)
+     * @param cursor 이전 페이지 커서 (첫 페이지면 null)
+     * @return 현재 페이지 숙소 + 다음 커서
      */
     @Override
-    public List<SearchAccommodationResponse> getRecentAccommodations(List<Integer> ids) {
+    public SearchAccommodationPage getRecentAccommodations(List<Integer> ids, Integer size, String cursor) {
         if (ids == null || ids.isEmpty()) {
-            return List.of();
+            return new SearchAccommodationPage(List.of(), null);
         }
 
-        // 숙소 ID 목록 조회
-        List<SearchAccommodationResponse> responses =
-                accommodationMapper.selectRecentAccommodations(ids);
-
-        // 이미지 세팅
-        setAccommodationImages(responses);
-        // log.info("✅ 최근 본 숙소 리스트 - responses={}", responses);
-
-        return responses;
+        // 인덱스에 있는 숙소만 (중복 제거), 정렬은 기존과 같이 최신 등록 순
+        List<Integer> knownIds = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            if (id != null && accommodationSearchIndex.getRow(id) != null) {
+                knownIds.add(id);
+            }
+        }
+        return toPage(knownIds, null, AccommodationSort.LATEST, cursor, resolvePageSize(size, defaultPageSize));
     }
 
 
     /**
      * 지역별 가격 낮은 숙소 12개 조회
+     * 미리 계산된 지역별 최저가 순위에서 조회하고,
+     * 순위에 없는 지역명("강남구" 등)은 인메모리 색인에서 주소 포함 숙소를 가격순으로 추림
      * @param accommodationAddress 숙소 주소
      * @return 숙소검색 응답 DTO 리스트
      */
@@ -139,16 +624,38 @@ public class AccommodationServiceImpl implements AccommodationService {
         log.info("💡 지역 별 가격 낮은 순 숙소 12개 검색 시작 - accommodationAddress={}",
                 accommodationAddress);
 
-        List<SearchAccommodationResponse> searchAccommodationResponse =
-                accommodationMapper.selectAccommodationPopularByAddress(
-                        accommodationAddress);
-        if (searchAccommodationResponse == null ||
-                searchAccommodationResponse.isEmpty()) {
+        List<SearchAccommodationResponse> searchAccommodationResponse;
+        int[] rankedIds = regionPriceLeaderboard.top(accommodationAddress);
+        if (rankedIds != null) {
+            searchAccommodationResponse = new ArrayList<>(rankedIds.length);
+            for (int accommodationId : rankedIds) {
+                AccommodationIndexRow row = accommodationSearchIndex.getRow(accommodationId);
+                if (row != null) {
+                    searchAccommodationResponse.add(toSearchResponse(row));
+                }
+            }
+            setAccommodationImages(searchAccommodationResponse);
+        } else {
+            SearchAccommodationRequest request = new SearchAccommodationRequest();
+            request.setAccommodationAddress(accommodationAddress);
+            List<Integer> ids = new ArrayList<>();
+            if (accommodationAddress != null && !accommodationAddress.isBlank()) {
+                for (Integer accommodationId : accommodationSearchIndex.findByKeyword(accommodationAddress)) {
+                    AccommodationIndexRow row = accommodationSearchIndex.getRow(accommodationId);
+                    if (row != null && matchesFilters(row, request)) {
+                        ids.add(accommodationId);
+                    }
+                }
+            }
+            searchAccommodationResponse = toPage(ids, null, AccommodationSort.PRICE, null,
+                    RegionPriceLeaderboard.TOP_K).getAccommodations();
+        }
+
+        if (searchAccommodationResponse.isEmpty()) {
             log.warn("❌ 지역 별 가격 낮은 순 숙소 12개 검색 결과 없음 - accommodationAddress={}", accommodationAddress);
             throw new NotFoundException("해당 지역 숙소가 존재하지 않습니다.");
         }
 
-        setAccommodationImages(searchAccommodationResponse);
         log.info("✅ 지역 별 가격 낮은 순 숙소 12개 숙소 검색 완료 - resultCount={}",
                 searchAccommodationResponse.size());
 
@@ -156,33 +663,88 @@ public class AccommodationServiceImpl implements AccommodationService {
     }
 
     /**
-     * 현재위치 기반 반경 5km 내 숙소 조회 : 지도 검색
-     * @param accommodationLatitude 숙소 경도
-     * @param accommodationLongitude 숙소 위도
-     * @return 숙소검색 응답 DTO 리스트
+     * 현재위치 기반 반경 내 숙소 조회 : 지도 검색
+     * DB 대신 인메모리 공간 인덱스에서 조회하며 기본은 가까운 순 정렬
+     * @param request 위도 / 경도 / 반경 (m, null 이면 기본 반경) 또는 nearest (가까운 k개) + size / cursor / sort
+     * @return 현재 페이지 숙소 + 다음 커서
      */
     @Override
-    public List<SearchAccommodationResponse> getAccommodationByLocation(
-            double accommodationLatitude,
-            double accommodationLongitude) {
-        log.info("💡 지도 5km 반경 숙소 검색 시작 - latitude={}, longitude={}",
-                accommodationLatitude, accommodationLongitude);
+    public SearchAccommodationPage getAccommodationByLocation(SearchAccommodationRequest request) {
+        if (request.getLatitude() == null || request.getLongitude() == null) {
+            throw new BadRequestException("위도와 경도를 입력해주세요.");
+        }
+        Integer nearest = resolveNearest(request.getNearest());
+        Map<Integer, Double> distances;
+        if (nearest != null) {
+            log.info("💡 지도 최근접 숙소 검색 시작 - latitude={}, longitude={}, nearest={}",
+                    request.getLatitude(), request.getLongitude(), nearest);
+            distances = toDistanceMap(accommodationSearchIndex.findNearest(
+                    request.getLatitude(), request.getLongitude(), nearest));
+        } else {
+            int radiusMeters = resolveRadius(request.getRadius());
+            log.info("💡 지도 반경 숙소 검색 시작 - latitude={}, longitude={}, radius={}m",
+                    request.getLatitude(), request.getLongitude(), radiusMeters);
+            distances = toDistanceMap(accommodationSearchIndex.findWithinRadius(
+                    request.getLatitude(), request.getLongitude(), radiusMeters));
+        }
+        List<Integer> ids = indexedIds(distances);
+
+        if (ids.isEmpty()) {
+            log.warn("❌ 지도 숙소 검색 결과 없음 - latitude={}, longitude={}, radius={}m, nearest={}",
+                    request.getLatitude(), request.getLongitude(), request.getRadius(), nearest);
+            throw new NotFoundException("현재 위치 주변에 숙소가 존재하지 않습니다.");
+        }
+
+        SearchAccommodationPage page = toPage(ids, distances,
+                AccommodationSort.from(request.getSort(), AccommodationSort.DISTANCE),
+                request.getCursor(),
+                resolvePageSize(request.getSize(), defaultPageSize));
+        log.info("✅ 지도 반경 숙소 검색 완료 - resultCount={}", page.getAccommodations().size());
+
+        return page;
+    }
 
+    /**
+     * 지도 화면 영역(bounding box) 내 숙소 조회 : 지도를 움직일 때마다 호출
+     * 인메모리 공간 인덱스에서 조회하며 기본은 영역 중심에서 가까운 순 정렬
+     * @param request 최소 / 최대 위도, 경도 + size / cursor / sort
+     * @return 현재 페이지 숙소 + 다음 커서
+     */
+    @Override
+    public SearchAccommodationPage getAccommodationInBoundingBox(SearchAccommodationRequest request) {
+        BoundingBox box = resolveBoundingBox(request);
+        if (box == null) {
+            throw new BadRequestException("지도 영역을 입력해주세요.");
+        }
+        log.info("💡 지도 영역 숙소 검색 시작 - {}", box);
 
-        List<SearchAccommodationResponse> searchAccommodationResponse =
-                accommodationMapper.selectAccommodationByLocation(
-                        accommodationLatitude,
-                        accommodationLongitude);
+        Map<Integer, Double> distances = toDistanceMap(accommodationSearchIndex.findInBoundingBox(
+                box.minLatitude(), box.minLongitude(), box.maxLatitude(), box.maxLongitude()));
+        List<Integer> ids = indexedIds(distances);
 
-        if (searchAccommodationResponse == null || searchAccommodationResponse.isEmpty()) {
-            log.warn("❌ 지도 5km 반경 숙소 검색 결과 없음 - latitude={}, longitude={}", accommodationLatitude, accommodationLongitude);
-            throw new NotFoundException("현재 위치 5km 내에 숙소가 존재하지 않습니다.");
+        if (ids.isEmpty()) {
+            log.warn("❌ 지도 영역 숙소 검색 결과 없음 - {}", box);
+            throw new NotFoundException("지도 영역 안에 숙소가 존재하지 않습니다.");
         }
 
-        setAccommodationImages(searchAccommodationResponse);
-        log.info("✅ 지도 5km 반경 숙소 검색 완료 - resultCount={}", searchAccommodationResponse.size());
+        SearchAccommodationPage page = toPage(ids, distances,
+                AccommodationSort.from(request.getSort(), AccommodationSort.DISTANCE),
+                request.getCursor(),
+                resolvePageSize(request.getSize(), defaultPageSize));
+        log.info("✅ 지도 영역 숙소 검색 완료 - resultCount={}", page.getAccommodations().size());
 
-        return searchAccommodationResponse;
+        return page;
+    }
+
+    // 공간 인덱스 결과 중 숙소 인덱스에 있는 숙소 ID (조회 순서 유지)
+    private List<Integer> indexedIds(Map<Integer, Double> distances) {
+        List<Integer> ids = new ArrayList<>(distances.size());
+        for (Integer accommodationId : distances.keySet()) {
+            if (accommodationSearchIndex.getRow(accommodationId) != null) {
+                ids.add(accommodationId);
+            }
+        }
+        return ids;
     }
 
     /**
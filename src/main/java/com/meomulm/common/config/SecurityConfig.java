@@ -45,6 +45,7 @@ public class SecurityConfig {
                                 "/api/auth/login",
                                 "/api/auth/signup",
                                 "/api/auth/check",
+                                "/api/payment/webhook",  // Stripe webhook (JWT 대신 Stripe 서명으로 검증)
                                 "/ws/**",      // WebSocket 연결 엔드포인트 허용
                                 "/info/**"     // SockJS 정보 경로 허용
                         ).permitAll()
@@ -63,6 +64,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("*"));         // Flutter 에뮬레이터 및 React 로컬 환경 허용
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("X-Next-Cursor", "Idempotent-Replayed"));  // 목록 다음 페이지 커서 / 멱등 재요청 응답 표시
         config.setAllowCredentials(true); // 쿠키/인증 헤더 허용
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,8 +1,8 @@
-
 package com.meomulm.common.config;
 
 import com.stripe.Stripe;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,17 +16,39 @@ import org.springframework.context.annotation.Configuration;
  * 환경변수 STRIPE_SECRET_KEY 값은:
  *   테스트 → sk_test_xxxxx
  *   프로덕션 → sk_live_xxxxx
+ *
+ * 로컬 테스트 : stripe-mock 실행 후 (docker run -p 12111:12111 stripe/stripe-mock)
+ *   STRIPE_API_BASE=http://localhost:12111 로 띄우면 실제 Stripe 계정 없이 결제 흐름을 확인할 수 있다.
  */
 
+@Slf4j
 @Configuration
 public class StripeConfig {
 
     @Value("${stripe.secret.key}")
     private String stripeSecretKey;
 
+    @Value("${stripe.api-base:https://api.stripe.com}")
+    private String apiBase;
+
+    @Value("${stripe.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${stripe.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
+    @Value("${stripe.max-network-retries:1}")
+    private int maxNetworkRetries;
+
     @PostConstruct
     public void init() {
         Stripe.apiKey = stripeSecretKey;
-        System.out.println("[Stripe] API 키 설정 완료");
+        Stripe.overrideApiBase(apiBase);
+        // SDK 기본값(연결 30초 / 응답 80초)은 요청 스레드를 너무 오래 붙잡으므로 짧게 제한
+        Stripe.setConnectTimeout(connectTimeoutMs);
+        Stripe.setReadTimeout(readTimeoutMs);
+        Stripe.setMaxNetworkRetries(maxNetworkRetries);
+        log.info("✅ [Stripe] API 설정 완료 - apiBase={}, connectTimeout={}ms, readTimeout={}ms, retries={}",
+                apiBase, connectTimeoutMs, readTimeoutMs, maxNetworkRetries);
     }
 }
@@ -0,0 +1,32 @@
+package com.meomulm.common.idempotency;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface IdempotencyMapper {
+    // 키 선점 (선점하면 1, 다른 요청이 가진 키면 0)
+    int claimKey(@Param("userId") int userId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("endpoint") String endpoint,
+                 @Param("requestHash") String requestHash,
+                 @Param("ttlSeconds") long ttlSeconds,
+                 @Param("staleSeconds") long staleSeconds);
+
+    // 키 기록 조회
+    IdempotencyRecord selectKey(@Param("userId") int userId,
+                                @Param("idempotencyKey") String idempotencyKey);
+
+    // 첫 응답 저장
+    int completeKey(@Param("userId") int userId,
+                    @Param("idempotencyKey") String idempotencyKey,
+                    @Param("responseStatus") int responseStatus,
+                    @Param("responseBody") String responseBody);
+
+    // 처리 실패한 키 반납
+    int releaseKey(@Param("userId") int userId,
+                   @Param("idempotencyKey") String idempotencyKey);
+
+    // 만료 기록 정리
+    int deleteExpiredKeys();
+}
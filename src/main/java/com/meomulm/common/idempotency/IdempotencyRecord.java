@@ -0,0 +1,25 @@
+package com.meomulm.common.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyRecord {
+    // 요청한 사용자 아이디
+    private int userId;
+    // 클라이언트가 보낸 Idempotency-Key
+    private String idempotencyKey;
+    // 요청 API (예: POST /api/reservation)
+    private String endpoint;
+    // 요청 본문 해시 (같은 키로 다른 요청을 보냈는지 확인)
+    private String requestHash;
+    // IN_PROGRESS / COMPLETED
+    private String status;
+    // 첫 응답 상태 코드
+    private Integer responseStatus;
+    // 첫 응답 본문 (JSON, 없으면 null)
+    private String responseBody;
+}
@@ -0,0 +1,184 @@
+package com.meomulm.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.common.exception.ConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리
+ *
+ * 같은 사용자가 같은 키로 보낸 첫 요청만 실행하고, 응답을 DB(idempotency_request)에 저장한다.
+ * 재시도 요청은 저장된 응답을 그대로 돌려주고 비즈니스 로직은 실행하지 않는다.
+ * 완료된 응답은 메모리 캐시에도 올려서 재시도가 몰릴 때 DB 조회 없이 바로 응답한다.
+ *
+ * - 헤더가 없으면 기존과 동일하게 바로 실행
+ * - 같은 키로 다른 요청 본문을 보내면 400
+ * - 첫 요청이 아직 처리 중이면 409 (클라이언트는 잠시 후 같은 키로 재시도)
+ * - 첫 요청이 예외로 끝나면 키를 반납해서 같은 키로 다시 시도할 수 있다
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    // 저장된 응답을 재사용했다는 표시
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String CACHE_NAME = "idempotency";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String COMPLETED = "COMPLETED";
+
+    private final IdempotencyMapper idempotencyMapper;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotencyRecord> completed;
+    private final long ttlSeconds;
+    private final long staleSeconds;
+
+    public IdempotencyService(
+            IdempotencyMapper idempotencyMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.cache.max-size:10000}") long maxSize,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.in-progress-timeout-seconds:60}") long staleSeconds) {
+        this.idempotencyMapper = idempotencyMapper;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+        this.staleSeconds = staleSeconds;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, CACHE_NAME);
+    }
+
+    /**
+     * 멱등 실행
+     * @param idempotencyKey Idempotency-Key 헤더 값 (null 이면 그냥 실행)
+     * @param userId 로그인 사용자 ID
+     * @param endpoint 요청 API (예: POST /api/reservation) - 같은 키를 다른 API 에 쓰는 경우 구분
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 비교)
+     * @param action 실제 처리
+     * @return 첫 요청이면 action 응답, 재시도면 저장된 응답
+     */
+    public <T> ResponseEntity<T> execute(String idempotencyKey, int userId, String endpoint,
+                                         Object request, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        String key = idempotencyKey.trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        String requestHash = hash(endpoint, request);
+        String cacheKey = userId + ":" + key;
+
+        IdempotencyRecord cached = completed.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        if (idempotencyMapper.claimKey(userId, key, endpoint, requestHash, ttlSeconds, staleSeconds) == 0) {
+            IdempotencyRecord existing = idempotencyMapper.selectKey(userId, key);
+            if (existing == null || !COMPLETED.equals(existing.getStatus())) {
+                throw new ConflictException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            completed.put(cacheKey, existing);
+            return replay(existing, requestHash);
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyMapper.releaseKey(userId, key);
+            throw e;
+        }
+
+        IdempotencyRecord record = new IdempotencyRecord(userId, key, endpoint, requestHash, COMPLETED,
+                response.getStatusCode().value(), toJson(response.getBody()));
+        try {
+            idempotencyMapper.completeKey(userId, key, record.getResponseStatus(), record.getResponseBody());
+            completed.put(cacheKey, record);
+        } catch (Exception e) {
+            // 처리 자체는 끝났으므로 응답은 그대로 돌려주고, 키는 in-progress-timeout 이후 다시 쓸 수 있다
+            log.error("❌ Idempotency 응답 저장 실패 - userId={}, key={}: {}", userId, key, e.getMessage());
+        }
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-ms:3600000}",
+            initialDelayString = "${idempotency.cleanup-ms:3600000}")
+    public void deleteExpiredKeys() {
+        try {
+            int deleted = idempotencyMapper.deleteExpiredKeys();
+            if (deleted > 0) {
+                log.info("✅ 만료된 Idempotency-Key 정리 완료 - deleted={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("❌ 만료된 Idempotency-Key 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 응답 재사용 - 본문은 저장된 JSON 그대로 내려간다
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new BadRequestException("이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        Object body;
+        try {
+            body = record.getResponseBody() == null ? null : objectMapper.readTree(record.getResponseBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+        log.info("💡 Idempotency-Key 재요청 - 저장된 응답 반환 userId={}, key={}",
+                record.getUserId(), record.getIdempotencyKey());
+        return (ResponseEntity<T>) ResponseEntity.status(record.getResponseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(body);
+    }
+
+    private String hash(String endpoint, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(endpoint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시 계산에 실패했습니다.", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.meomulm.common.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 스케줄러 대상 스트리밍 청크 처리
+ *
+ * 대상 행을 MyBatis Cursor 로 fetchSize 건씩 받아오면서 chunkSize 건이 모일 때마다
+ * 가상 스레드 작업자에게 넘겨 청크별 트랜잭션으로 처리한다.
+ * - 작업자 수(scheduler.stream.workers) 만큼만 청크를 동시에 들고 있고, 모두 바쁘면 커서 읽기를 멈춘다
+ *   → 대상이 아무리 많아도 메모리는 (작업자 수 + 1) 청크로 일정하고, 첫 청크부터 바로 처리된다
+ * - 청크는 완료 순서가 뒤바뀔 수 있으므로 체크포인트는 앞에서부터 연속으로 끝난 청크의 마지막 키까지만 저장한다
+ *   → 재개 시 체크포인트 이후 이미 끝난 청크가 다시 처리될 수 있으므로, 청크 처리는 멱등이어야 한다
+ * - 체크포인트는 연속 구간을 늘린 청크의 트랜잭션 안에서 저장한다 (JobRunLedger.checkpoint 규약)
+ *   → 체크포인트 잠금은 그 청크가 커밋될 때까지 잡고 있어서, 커밋에 실패한 청크를 건너뛴 체크포인트가 저장되지 않는다
+ *
+ * 커넥션은 커서 1개 + 작업자 수만큼 쓰므로 작업자 수는 커넥션 풀 크기보다 작게 둔다.
+ */
+@Slf4j
+@Component
+public class ChunkStreamProcessor {
+
+    private final TransactionTemplate transactionTemplate;
+    // 커서는 열린 트랜잭션 안에서만 읽을 수 있어서 읽기 전용 트랜잭션으로 감싼다
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final JobRunLedger jobRunLedger;
+
+    @Value("${scheduler.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${scheduler.stream.workers:2}")
+    private int workers;
+
+    public ChunkStreamProcessor(PlatformTransactionManager transactionManager, JobRunLedger jobRunLedger) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.jobRunLedger = jobRunLedger;
+    }
+
+    /**
+     * 체크포인트 다음부터 끝까지 스트리밍하며 청크 단위 처리
+     * @param run 실행 중인 작업 (lastKey 다음부터 읽고, 처리한 만큼 체크포인트 저장)
+     * @param openCursor 마지막 키 다음부터 키 오름차순으로 읽는 커서
+     * @param keyOf 행의 키 (커서 정렬 기준)
+     * @param handler 청크 처리 (청크마다 별도 트랜잭션, 멱등이어야 함)
+     * @return 이번 실행에서 처리한 행 수
+     */
+    public <T> int process(JobRun run, IntFunction<Cursor<T>> openCursor, ToIntFunction<T> keyOf,
+                           Consumer<List<T>> handler) {
+        int startKey = run.getLastKey();
+        Semaphore permits = new Semaphore(workers);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger total = new AtomicInteger();
+        Watermark watermark = new Watermark();
+
+        // close() 가 제출된 청크가 모두 끝날 때까지 기다린다
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("scheduler-chunk-", 0).factory())) {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Cursor<T> cursor = openCursor.apply(startKey)) {
+                    List<T> chunk = new ArrayList<>(chunkSize);
+                    int seq = 0;
+                    for (T row : cursor) {
+                        if (failure.get() != null) {
+                            break;
+                        }
+                        chunk.add(row);
+                        if (chunk.size() == chunkSize) {
+                            submit(executor, permits, run, seq++, chunk, keyOf, handler, watermark, total, failure);
+                            chunk = new ArrayList<>(chunkSize);
+                        }
+                    }
+                    if (!chunk.isEmpty() && failure.get() == null) {
+                        submit(executor, permits, run, seq, chunk, keyOf, handler, watermark, total, failure);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("청크 처리 실패 (처리 완료 " + total.get() + "건)", failure.get());
+        }
+        return total.get();
+    }
+
+    /**
+     * 작업자 자리가 날 때까지 기다렸다가(backpressure) 청크 제출
+     */
+    private <T> void submit(ExecutorService executor, Semaphore permits, JobRun run, int seq, List<T> chunk,
+                            ToIntFunction<T> keyOf, Consumer<List<T>> handler, Watermark watermark,
+                            AtomicInteger total, AtomicReference<Exception> failure) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("청크 처리 대기 중 중단되었습니다.", e);
+        }
+        int lastKey = keyOf.applyAsInt(chunk.get(chunk.size() - 1));
+        executor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    handler.accept(chunk);
+                    // 커밋이 끝날 때까지 잡고 있다가 아래 finally 에서 해제 (가상 스레드를 고정하지 않는 ReentrantLock)
+                    watermark.lock.lock();
+                    if (watermark.complete(seq, lastKey, chunk.size())) {
+                        jobRunLedger.checkpoint(run, watermark.lastKey, watermark.drainCount());
+                    }
+                });
+                total.addAndGet(chunk.size());
+            } catch (Exception e) {
+                // 롤백된 청크까지 포함한 연속 구간이 이후 청크의 체크포인트로 저장되지 않도록 막는다
+                watermark.lock.lock();
+                try {
+                    watermark.broken = true;
+                } finally {
+                    watermark.lock.unlock();
+                }
+                failure.compareAndSet(null, e);
+                log.error("❌ [{}] 청크 처리 실패 - seq={}, lastKey={}: {}",
+                        run.getJobName(), seq, lastKey, e.getMessage());
+            } finally {
+                if (watermark.lock.isHeldByCurrentThread()) {
+                    watermark.lock.unlock();
+                }
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * 앞에서부터 연속으로 완료된 청크 위치 (체크포인트 기준, lock 을 잡고 사용)
+     */
+    private static class Watermark {
+        private final ReentrantLock lock = new ReentrantLock();
+        // 완료됐지만 앞 청크가 아직 안 끝난 청크 : seq -> {lastKey, 건수}
+        private final Map<Integer, int[]> pending = new HashMap<>();
+        private int nextSeq;
+        private int lastKey;
+        private int count;
+        // 청크 하나라도 실패하면 이후 체크포인트를 저장하지 않는다
+        private boolean broken;
+
+        /**
+         * 청크 완료 기록
+         * @return 연속 구간이 늘어났으면 true
+         */
+        private boolean complete(int seq, int chunkLastKey, int chunkCount) {
+            if (broken) {
+                return false;
+            }
+            pending.put(seq, new int[]{chunkLastKey, chunkCount});
+            boolean advanced = false;
+            int[] next;
+            while ((next = pending.remove(nextSeq)) != null) {
+                lastKey = next[0];
+                count += next[1];
+                nextSeq++;
+                advanced = true;
+            }
+            return advanced;
+        }
+
+        // 마지막 체크포인트 이후 연속 구간에 추가된 건수
+        private int drainCount() {
+            int drained = count;
+            count = 0;
+            return drained;
+        }
+    }
+}
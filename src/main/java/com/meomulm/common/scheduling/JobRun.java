@@ -0,0 +1,25 @@
+package com.meomulm.common.scheduling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobRun {
+    // 작업 이름 (BIRTHDAY / CHECK_IN / CHECK_OUT)
+    private String jobName;
+    // 작업 기준 날짜
+    private LocalDate logicalDate;
+    // RUNNING / COMPLETED / FAILED
+    private String status;
+    // 마지막으로 처리한 키 (체크포인트, 다음 실행은 이 키 다음부터)
+    private int lastKey;
+    // 지금까지 처리한 행 수
+    private int processedCount;
+    // 선점(실행 시작) 횟수
+    private int attempts;
+}
@@ -0,0 +1,86 @@
+package com.meomulm.common.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 스케줄러 작업 실행 기록 (scheduler_job_run)
+ *
+ * 작업 + 기준 날짜마다 한 행을 두고, 같은 날 같은 작업은 한 번만 완료되도록 한다.
+ * - 이미 완료된 날짜는 다시 실행하지 않는다 (cron 이 여러 번 돌아도 알림은 한 번)
+ * - 청크마다 마지막 키를 체크포인트로 남기고, 실패 / 서버 중단 후에는 그 다음 키부터 이어서 처리한다
+ * - 체크포인트는 청크 처리(알림 적재 등)와 같은 트랜잭션에서 저장해야 중복 / 누락이 없다
+ * - 체크포인트 없이 stale-seconds 가 지난 RUNNING 실행은 중단된 것으로 보고 다시 가져갈 수 있다
+ * - 실패 / 중단 후 재선점은 max-attempts 번까지만 하고, 이후에는 수동 확인 대상으로 남긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRunLedger {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobRunMapper jobRunMapper;
+
+    @Value("${scheduler.job.stale-seconds:600}")
+    private long staleSeconds;
+
+    @Value("${scheduler.job.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 실행 선점
+     * @param jobName 작업 이름
+     * @param logicalDate 기준 날짜
+     * @return 실행할 작업 (lastKey 부터 이어서 처리), 이미 완료됐거나 다른 곳에서 실행 중이거나 시도 횟수를 다 썼으면 null
+     */
+    public JobRun claim(String jobName, LocalDate logicalDate) {
+        return jobRunMapper.claimRun(jobName, logicalDate, staleSeconds, maxAttempts);
+    }
+
+    /**
+     * 체크포인트 저장 - 청크 처리와 같은 트랜잭션 안에서 호출
+     * @param run 실행 중인 작업
+     * @param lastKey 이번 청크에서 마지막으로 처리한 키
+     * @param processed 이번 청크 처리 건수
+     */
+    public void checkpoint(JobRun run, int lastKey, int processed) {
+        jobRunMapper.saveCheckpoint(run.getJobName(), run.getLogicalDate(), lastKey, processed);
+        run.setLastKey(lastKey);
+        run.setProcessedCount(run.getProcessedCount() + processed);
+    }
+
+    public void complete(JobRun run) {
+        jobRunMapper.completeRun(run.getJobName(), run.getLogicalDate());
+        run.setStatus("COMPLETED");
+    }
+
+    public void fail(JobRun run, String error) {
+        String message = error == null ? null
+                : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH));
+        try {
+            jobRunMapper.failRun(run.getJobName(), run.getLogicalDate(), message);
+            run.setStatus("FAILED");
+            if (run.getAttempts() >= maxAttempts) {
+                log.error("❌ 작업 재시도 횟수 초과 - 더 이상 자동 재시도하지 않음 (수동 확인 필요) - job={}, date={}, attempts={}",
+                        run.getJobName(), run.getLogicalDate(), run.getAttempts());
+            }
+        } catch (Exception e) {
+            // 기록 실패 시 RUNNING 으로 남고, stale-seconds 이후 다시 선점된다
+            log.error("❌ 작업 실패 기록 실패 - job={}, date={}: {}",
+                    run.getJobName(), run.getLogicalDate(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기준 날짜에 시작했지만 완료되지 않았고 재시도 횟수가 남은 작업 이름
+     */
+    public List<String> unfinishedJobs(LocalDate logicalDate) {
+        return jobRunMapper.selectUnfinishedJobNames(logicalDate, maxAttempts);
+    }
+}
@@ -0,0 +1,35 @@
+package com.meomulm.common.scheduling;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface JobRunMapper {
+    // 실행 선점 (실행할 필요가 없거나 시도 횟수를 다 쓰면 null)
+    JobRun claimRun(@Param("jobName") String jobName,
+                    @Param("logicalDate") LocalDate logicalDate,
+                    @Param("staleSeconds") long staleSeconds,
+                    @Param("maxAttempts") int maxAttempts);
+
+    // 체크포인트 저장
+    int saveCheckpoint(@Param("jobName") String jobName,
+                       @Param("logicalDate") LocalDate logicalDate,
+                       @Param("lastKey") int lastKey,
+                       @Param("processed") int processed);
+
+    // 실행 완료
+    int completeRun(@Param("jobName") String jobName,
+                    @Param("logicalDate") LocalDate logicalDate);
+
+    // 실행 실패
+    int failRun(@Param("jobName") String jobName,
+                @Param("logicalDate") LocalDate logicalDate,
+                @Param("error") String error);
+
+    // 완료되지 않았고 재시도 횟수가 남은 작업 이름
+    List<String> selectUnfinishedJobNames(@Param("logicalDate") LocalDate logicalDate,
+                                          @Param("maxAttempts") int maxAttempts);
+}
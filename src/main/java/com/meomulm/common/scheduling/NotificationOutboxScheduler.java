@@ -0,0 +1,60 @@
+package com.meomulm.common.scheduling;
+
+import com.meomulm.notification.model.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 outbox 디스패처
+ *
+ * notification_outbox 에 쌓인 알림을 batch-size 건씩 저장 / 전송하고,
+ * 꽉 찬 배치가 나오면 남은 게 없을 때까지 이어서 처리한다.
+ * SKIP LOCKED 로 가져오므로 서버가 여러 대여도 같은 알림을 두 번 보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final SchedulerLock schedulerLock;
+
+    @Value("${notification.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-ms:500}")
+    public void dispatch() {
+        int total = 0;
+        try {
+            int dispatched;
+            do {
+                dispatched = notificationOutboxService.dispatch(batchSize);
+                total += dispatched;
+            } while (dispatched == batchSize);
+        } catch (Exception e) {
+            log.error("❌ 알림 outbox 전송 실패: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("✅ 알림 outbox 전송 완료 - dispatched={}", total);
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void deleteSent() {
+        try {
+            // 정리는 서버 한 대에서만
+            schedulerLock.runLocked("scheduler:NOTIFICATION_OUTBOX_CLEANUP", () -> {
+                int deleted = notificationOutboxService.deleteSent(retentionDays);
+                log.info("✅ 전송 완료 알림 outbox 정리 - deleted={}", deleted);
+            });
+        } catch (Exception e) {
+            log.error("❌ 알림 outbox 정리 실패: {}", e.getMessage());
+        }
+    }
+}
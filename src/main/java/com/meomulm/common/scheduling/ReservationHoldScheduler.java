@@ -0,0 +1,43 @@
+package com.meomulm.common.scheduling;
+
+import com.meomulm.reservation.model.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미결제 예약 홀드 만료 스케줄러
+ *
+ * expires_at 부분 인덱스로 만료된 NOT_PAID 예약만 골라 batch-size 건씩 해제하고,
+ * 꽉 찬 배치가 나오면 남은 게 없을 때까지 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationHoldScheduler {
+
+    private final ReservationService reservationService;
+
+    @Value("${reservation.hold.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${reservation.hold.sweep-ms:30000}",
+            initialDelayString = "${reservation.hold.sweep-ms:30000}")
+    public void expireHolds() {
+        int total = 0;
+        try {
+            int released;
+            do {
+                released = reservationService.expireHolds(batchSize);
+                total += released;
+            } while (released == batchSize);
+        } catch (Exception e) {
+            log.error("❌ 미결제 홀드 만료 처리 실패: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("✅ 미결제 홀드 만료 처리 완료 - released={}", total);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.meomulm.common.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 분산 락 (scheduler_lock 테이블 lease)
+ *
+ * 서버가 여러 대여도 같은 이름의 작업은 락을 잡은 서버 한 대에서만 실행한다.
+ * - 락은 lease-seconds 동안 유효하고, 실행 중에는 lease 의 1/3 주기로 연장한다
+ * - 작업이 끝나면 바로 반납하고, 서버가 죽으면 lease 만료 후 다른 서버의 다음 실행이 가져간다
+ * - 락을 못 잡은 서버는 작업을 건너뛴다 (기다리지 않음)
+ *
+ * 서버 식별자는 scheduler.lock.instance-id (비어 있으면 호스트명 + 랜덤값) 이라
+ * 한 DB 를 공유하는 애플리케이션 컨텍스트 여러 개도 각각 다른 서버로 동작한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private final SchedulerLockMapper schedulerLockMapper;
+    private final String instanceId;
+    private final long leaseSeconds;
+    // lease 연장 전용 스레드 (작업 스레드가 오래 걸려도 연장은 제때 실행)
+    private final ScheduledExecutorService renewer;
+    // 현재 이 서버가 잡고 있는 락 -> 연장 작업
+    private final Map<String, ScheduledFuture<?>> held = new ConcurrentHashMap<>();
+    // 이 서버에서 실행 중인 락 이름 (같은 작업이 동시에 두 번 트리거된 경우 방지)
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLock(SchedulerLockMapper schedulerLockMapper,
+                         @Value("${scheduler.lock.instance-id:}") String instanceId,
+                         @Value("${scheduler.lock.lease-seconds:60}") long leaseSeconds) {
+        this.schedulerLockMapper = schedulerLockMapper;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.leaseSeconds = leaseSeconds;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("scheduler-lock-renewer")
+                .daemon(true)
+                .factory());
+        log.info("💡 스케줄러 락 서버 식별자 - {}", this.instanceId);
+    }
+
+    /**
+     * 락을 잡은 경우에만 작업 실행
+     * @param lockName 락 이름 (작업 이름)
+     * @param task 실행할 작업
+     * @return 실행했으면 true, 다른 서버가 실행 중이라 건너뛰었으면 false
+     */
+    public boolean runLocked(String lockName, Runnable task) {
+        // 같은 서버 안에서 이미 실행 중인 경우 (DB 락은 내 락이면 다시 잡히므로 먼저 확인)
+        if (!running.add(lockName)) {
+            log.info("💡 [{}] 이 서버에서 이미 실행 중 - 건너뜀", lockName);
+            return false;
+        }
+        try {
+            if (schedulerLockMapper.acquireLock(lockName, instanceId, leaseSeconds) == 0) {
+                log.info("💡 [{}] 다른 서버에서 실행 중 - 건너뜀", lockName);
+                return false;
+            }
+            long renewMs = Math.max(1000L, TimeUnit.SECONDS.toMillis(leaseSeconds) / 3);
+            held.put(lockName, renewer.scheduleWithFixedDelay(
+                    () -> renew(lockName), renewMs, renewMs, TimeUnit.MILLISECONDS));
+            try {
+                task.run();
+                return true;
+            } finally {
+                ScheduledFuture<?> renewal = held.remove(lockName);
+                if (renewal != null) {
+                    renewal.cancel(false);
+                }
+                release(lockName);
+            }
+        } finally {
+            running.remove(lockName);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    // 종료 시 잡고 있던 락을 바로 반납해서 다른 서버가 lease 만료를 기다리지 않게 한다
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+        for (String lockName : held.keySet()) {
+            release(lockName);
+        }
+    }
+
+    private void renew(String lockName) {
+        try {
+            if (schedulerLockMapper.renewLock(lockName, instanceId, leaseSeconds) == 0) {
+                // lease 가 만료되어 다른 서버가 가져간 경우 - 작업 기록(scheduler_job_run) 선점으로 중복 처리는 막힌다
+                log.warn("⚠️ [{}] 락 연장 실패 - 다른 서버로 넘어감", lockName);
+            }
+        } catch (Exception e) {
+            log.error("❌ [{}] 락 연장 실패: {}", lockName, e.getMessage());
+        }
+    }
+
+    private void release(String lockName) {
+        try {
+            schedulerLockMapper.releaseLock(lockName, instanceId);
+        } catch (Exception e) {
+            // 반납 실패 시 lease 만료 후 다른 서버가 가져간다
+            log.error("❌ [{}] 락 반납 실패: {}", lockName, e.getMessage());
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
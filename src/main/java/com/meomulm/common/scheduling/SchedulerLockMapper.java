@@ -0,0 +1,21 @@
+package com.meomulm.common.scheduling;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SchedulerLockMapper {
+    // 락 획득 / 연장 (획득하면 1, 다른 서버가 잡고 있으면 0)
+    int acquireLock(@Param("lockName") String lockName,
+                    @Param("ownerId") String ownerId,
+                    @Param("leaseSeconds") long leaseSeconds);
+
+    // lease 연장 (내 락이 아니면 0)
+    int renewLock(@Param("lockName") String lockName,
+                  @Param("ownerId") String ownerId,
+                  @Param("leaseSeconds") long leaseSeconds);
+
+    // 락 반납
+    int releaseLock(@Param("lockName") String lockName,
+                    @Param("ownerId") String ownerId);
+}
@@ -1,7 +1,8 @@
 package com.meomulm.common.scheduling;
 
 import com.meomulm.notification.model.dto.Notification;
-import com.meomulm.notification.model.service.NotificationService;
+import com.meomulm.notification.model.dto.NotificationOutbox;
+import com.meomulm.notification.model.service.NotificationOutboxService;
 import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.reservation.model.dto.ReservationDTO;
 import com.meomulm.reservation.model.mapper.ReservationMapper;
@@ -11,31 +12,54 @@ import com.meomulm.user.model.mapper.UserMapper;
 import com.meomulm.user.model.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SchedulingController {
 
-    private final NotificationService notificationService;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 작업 이름 (scheduler_job_run.job_name)
+    private static final String BIRTHDAY = "BIRTHDAY";
+    private static final String CHECK_IN = "CHECK_IN";
+    private static final String CHECK_OUT = "CHECK_OUT";
+    // 분산 락 이름 접두어 (scheduler_lock.lock_name)
+    private static final String LOCK_PREFIX = "scheduler:";
+
+    private final NotificationOutboxService notificationOutboxService;
     private final UserMapper userMapper;
     private final ReservationMapper reservationMapper;
-    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메세지 전송
+    private final TransactionTemplate transactionTemplate;
+    private final JobRunLedger jobRunLedger;
+    private final SchedulerLock schedulerLock;
+    private final ChunkStreamProcessor chunkStreamProcessor;
+
+    // 한 번에 읽고 / 갱신하고 / 알림을 적재할 행 수
+    @Value("${scheduler.chunk-size:500}")
+    private int chunkSize;
 
+    // 생일 알림은 16시 동안 20초마다 시도하지만, 실행 기록으로 하루 한 번만 처리된다 (나머지는 실패 시 재시도 역할)
     @Scheduled(cron = "0/20 * 16 * * *", zone = "Asia/Seoul")
     public void BirthDayNotification() {
         String nowTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         log.info("==== 생일 자동 알림 스케줄러 시작 [{}] ====", nowTime);
-        BirthdayWish();
+        runJob(BIRTHDAY, LocalDate.now(ZONE));
         log.info("==== 생일 자동 알림 스케줄러 종료 ====");
     }
 
@@ -43,7 +67,7 @@ public class SchedulingController {
     public void CheckOutNotification() {
         String nowTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         log.info("==== 체크아웃 자동 알림 스케줄러 시작 [{}] ====", nowTime);
-        CheckOutReview();
+        runJob(CHECK_OUT, LocalDate.now(ZONE));
         log.info("==== 체크아웃 자동 알림 스케줄러 종료 ====");
     }
 
@@ -51,95 +75,162 @@ public class SchedulingController {
     public void CheckInNotification() {
         String nowTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         log.info("==== 체크인 자동 알림 스케줄러 시작 [{}] ====", nowTime);
-        CheckInReminder();
+        runJob(CHECK_IN, LocalDate.now(ZONE));
         log.info("==== 체크인 자동 알림 스케줄러 종료 ====");
     }
 
-    // 오늘이 생일인 회원 조회
-    private void BirthdayWish() {
-        List<User> birthdayMembers = userMapper.selectTodayBirthdayList();
-
-        for (User m : birthdayMembers) {
-            try{
-                Notification n = new Notification();
-                n.setUserId(m.getUserId());
-                n.setNotificationContent("고객님의 생일을 진심으로 축하합니다!");
-                // n.setNotificationLinkUrl();
-                notificationService.insertNotification(n);
-
-                int generatedId = n.getNotificationId();
-
-                Map<String, Object> notification = new HashMap<>();
-                notification.put("id", generatedId);
-                notification.put("notificationContent", "고객님의 생일을 진심으로 축하합니다!");
-                notification.put("userId", m.getUserId());
-                notification.put("timestamp", System.currentTimeMillis());
-                messagingTemplate.convertAndSendToUser(String.valueOf(m.getUserId()), "/queue/notifications", notification);
-                log.info("String.valueOf(target.getUserId()) : {}", m.getUserId());
-                log.info("생일 알림 전송, 저장 완료");
+    // 어제 / 오늘 시작했지만 끝나지 않은 작업(실패 / 서버 재시작) 을 체크포인트부터 이어서 실행
+    // (자정 직전에 실패한 실행도 다음 날 이어서 처리, 시도 횟수는 scheduler.job.max-attempts 까지)
+    @Scheduled(fixedDelayString = "${scheduler.job.resume-ms:300000}",
+            initialDelayString = "${scheduler.job.resume-initial-delay-ms:60000}")
+    public void resumeUnfinishedJobs() {
+        LocalDate today = LocalDate.now(ZONE);
+        for (LocalDate logicalDate : List.of(today.minusDays(1), today)) {
+            try {
+                for (String jobName : jobRunLedger.unfinishedJobs(logicalDate)) {
+                    runJob(jobName, logicalDate);
+                }
             } catch (Exception e) {
-                log.error("생일 알림 처리 실패 (ID: {}): {}", m.getUserId(), e.getMessage());
+                log.error("❌ {} 미완료 스케줄러 작업 조회 실패: {}", logicalDate, e.getMessage());
             }
         }
     }
 
-    // 내일 체크인하는 예약 리스트 조회
-    private void CheckInReminder() {
-        List<ReservationDTO> targets = reservationMapper.selectReservationWithNames("CHECK_IN");
-
-        for (ReservationDTO res : targets) {
-            try{
-                Notification n = new Notification();
-                n.setUserId(res.getUserId());
-                n.setNotificationContent("내일은 [" + res.getAccommodationName() + "] 체크인 날입니다!");
-                n.setNotificationLinkUrl("meomulm://mypage/my-reservation?tab=0");
-                notificationService.insertNotification(n);
-
-                int generatedId = n.getNotificationId();
-
-                Map<String, Object> notification = new HashMap<>();
-                notification.put("id", generatedId);
-                notification.put("userId", res.getUserId());
-                notification.put("notificationContent", "내일은 [" + res.getAccommodationName() + "] 체크인 날입니다!");
-                notification.put("notificationLinkUrl", "meomulm://mypage/my-reservation?tab=0");
-                notification.put("timestamp", System.currentTimeMillis());
-                messagingTemplate.convertAndSendToUser(String.valueOf(res.getUserId()), "/queue/notifications", notification);
-                log.info("String.valueOf(target.getUserId()) : {}", res.getUserId());
-                log.info("체크인 알림 전송, 저장 완료");
-            } catch (Exception e) {
-                log.error("체크인 알림 처리 실패 (ID: {}): {}", res.getReservationId(), e.getMessage());
-            }
+    /**
+     * 작업 실행 - 서버가 여러 대여도 락을 잡은 한 대에서만 실행
+     * @param jobName 작업 이름
+     * @param logicalDate 기준 날짜
+     */
+    private void runJob(String jobName, LocalDate logicalDate) {
+        try {
+            schedulerLock.runLocked(LOCK_PREFIX + jobName, () -> executeJob(jobName, logicalDate));
+        } catch (Exception e) {
+            log.error("❌ [{}] {} 스케줄러 락 처리 실패: {}", jobName, logicalDate, e.getMessage());
         }
     }
 
-    // 오늘 체크아웃인 예약 리스트 조회
-    private void CheckOutReview() {
-        List<ReservationDTO> targets = reservationMapper.selectReservationWithNames("CHECK_OUT");;
+    /**
+     * 작업 처리 - 기준 날짜별로 한 번만 완료되고, 중단되면 체크포인트부터 이어서 처리
+     * @param jobName 작업 이름
+     * @param logicalDate 기준 날짜 (자정을 넘겨 재개해도 같은 날짜 기준으로 처리)
+     */
+    private void executeJob(String jobName, LocalDate logicalDate) {
+        JobRun run;
+        try {
+            run = jobRunLedger.claim(jobName, logicalDate);
+        } catch (Exception e) {
+            log.error("❌ [{}] {} 실행 선점 실패: {}", jobName, logicalDate, e.getMessage());
+            return;
+        }
+        if (run == null) {
+            log.info("💡 [{}] {} 이미 완료되었거나 실행 중 - 건너뜀", jobName, logicalDate);
+            return;
+        }
+        if (run.getLastKey() > 0) {
+            log.info("💡 [{}] {} 체크포인트부터 재개 - lastKey={}, 처리 완료 {}건",
+                    jobName, logicalDate, run.getLastKey(), run.getProcessedCount());
+        }
+        try {
+            int total = switch (jobName) {
+                case BIRTHDAY -> BirthdayWish(run);
+                case CHECK_IN -> CheckInReminder(run);
+                case CHECK_OUT -> CheckOutReview(run);
+                default -> throw new IllegalArgumentException("알 수 없는 작업입니다: " + jobName);
+            };
+            jobRunLedger.complete(run);
+            log.info("✅ [{}] {} 완료 - 이번 실행 {}건, 누적 {}건",
+                    jobName, logicalDate, total, run.getProcessedCount());
+        } catch (Exception e) {
+            jobRunLedger.fail(run, e.getMessage());
+            log.error("❌ [{}] {} 처리 실패 (누적 {}건, lastKey={}): {}",
+                    jobName, logicalDate, run.getProcessedCount(), run.getLastKey(), e.getMessage());
+        }
+    }
 
-        for (ReservationDTO target : targets) {
-            try {
-                reservationMapper.updateStatusToUsed(target.getReservationId());
-
-                Notification n = new Notification();
-                n.setUserId(target.getUserId());
-                n.setNotificationContent("숙소는 어떠셨나요? [" + target.getAccommodationName() + "] 리뷰를 남겨주세요!");
-                n.setNotificationLinkUrl("meomulm://mypage/my-reservation?tab=1");
-                notificationService.insertNotification(n);
-
-                int generatedId = n.getNotificationId();
-
-                Map<String, Object> notification = new HashMap<>();
-                notification.put("id", generatedId);
-                notification.put("userId", target.getUserId());
-                notification.put("notificationContent", "숙소는 어떠셨나요? [" + target.getAccommodationName() + "] 리뷰를 남겨주세요!");
-                notification.put("notificationLinkUrl", "meomulm://mypage/my-reservation?tab=1");
-                notification.put("timestamp", System.currentTimeMillis());
-                messagingTemplate.convertAndSendToUser(String.valueOf(target.getUserId()), "/queue/notifications", notification);
-                log.info("String.valueOf(target.getUserId()) : {}", target.getUserId());
-                log.info("체크아웃 상태 변경 및 알림 전송, 저장 완료");
-            } catch (Exception e) {
-                log.error("체크아웃 처리 실패 (ID: {}): {}", target.getReservationId(), e.getMessage());
+    // 기준 날짜가 생일인 회원 스트리밍 조회 (회원 ID 순 청크마다 알림 일괄 적재)
+    private int BirthdayWish(JobRun run) {
+        return processInChunks(run,
+                afterId -> userMapper.selectTodayBirthdayList(run.getLogicalDate(), afterId),
+                User::getUserId,
+                m -> newNotification(m.getUserId(), "고객님의 생일을 진심으로 축하합니다!", null));
+    }
+
+    // 기준 날짜 다음 날 체크인하는 예약 스트리밍 조회 (예약 ID 순 청크마다 알림 일괄 적재)
+    private int CheckInReminder(JobRun run) {
+        return processInChunks(run,
+                afterId -> reservationMapper.selectReservationWithNames("CHECK_IN", run.getLogicalDate(), afterId),
+                ReservationDTO::getReservationId,
+                res -> newNotification(res.getUserId(),
+                        "내일은 [" + res.getAccommodationName() + "] 체크인 날입니다!",
+                        "meomulm://mypage/my-reservation?tab=0"));
+    }
+
+    // 기준 날짜 체크아웃인 예약 이용 완료 처리
+    // 청크마다 UPDATE ... RETURNING 한 번 + 알림 multi-row insert + 체크포인트를 한 트랜잭션으로 처리
+    // (상태가 PAID 인 예약만 갱신하므로 재개 시에도 남은 예약만 처리된다)
+    private int CheckOutReview(JobRun run) {
+        int total = 0;
+        Integer processed;
+        do {
+            processed = transactionTemplate.execute(status -> {
+                List<ReservationDTO> used = reservationMapper.updateTodayCheckOutToUsed(run.getLogicalDate(), chunkSize);
+                if (used.isEmpty()) {
+                    return 0;
+                }
+                List<Notification> notifications = new ArrayList<>(used.size());
+                for (ReservationDTO target : used) {
+                    notifications.add(newNotification(target.getUserId(),
+                            "숙소는 어떠셨나요? [" + target.getAccommodationName() + "] 리뷰를 남겨주세요!",
+                            "meomulm://mypage/my-reservation?tab=1"));
+                }
+                enqueue(notifications);
+                jobRunLedger.checkpoint(run, used.get(used.size() - 1).getReservationId(), used.size());
+                return used.size();
+            });
+            total += processed;
+        } while (processed == chunkSize);
+        return total;
+    }
+
+    /**
+     * 스트리밍 청크 처리 - 체크포인트(마지막 키) 다음부터 커서로 읽어 chunkSize 건마다 알림을 한 번에 적재
+     * 알림마다 "작업:날짜:대상키" 중복 방지 키를 붙이므로, 재개 시 다시 읽힌 청크도 알림은 한 번만 적재된다.
+     * @param run 실행 중인 작업 (lastKey 부터 시작)
+     * @param openCursor 마지막 키 다음부터 읽는 커서
+     * @param keyOf 행의 키 (조회 정렬 기준)
+     * @param toNotification 행 -> 알림
+     * @return 이번 실행에서 처리한 행 수
+     */
+    private <T> int processInChunks(JobRun run, IntFunction<Cursor<T>> openCursor, ToIntFunction<T> keyOf,
+                                    Function<T, Notification> toNotification) {
+        String dedupPrefix = run.getJobName() + ":" + run.getLogicalDate() + ":";
+        return chunkStreamProcessor.process(run, openCursor, keyOf, chunk -> {
+            List<NotificationOutbox> rows = new ArrayList<>(chunk.size());
+            for (T row : chunk) {
+                Notification n = toNotification.apply(row);
+                NotificationOutbox outbox = new NotificationOutbox();
+                outbox.setUserId(n.getUserId());
+                outbox.setNotificationContent(n.getNotificationContent());
+                outbox.setNotificationLinkUrl(n.getNotificationLinkUrl());
+                outbox.setDedupKey(dedupPrefix + keyOf.applyAsInt(row));
+                rows.add(outbox);
             }
+            notificationOutboxService.enqueueAllOnce(rows);
+        });
+    }
+
+    private Notification newNotification(int userId, String content, String linkUrl) {
+        Notification n = new Notification();
+        n.setUserId(userId);
+        n.setNotificationContent(content);
+        n.setNotificationLinkUrl(linkUrl);
+        return n;
+    }
+
+    // 알림 일괄 적재 (저장 / 전송은 outbox 디스패처가 청크 단위로 처리)
+    private void enqueue(List<Notification> notifications) {
+        if (!notifications.isEmpty()) {
+            notificationOutboxService.enqueueAll(notifications);
         }
     }
 }
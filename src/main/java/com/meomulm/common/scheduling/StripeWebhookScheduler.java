@@ -0,0 +1,43 @@
+package com.meomulm.common.scheduling;
+
+import com.meomulm.product.payment.model.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stripe webhook 이벤트 처리 워커
+ *
+ * stripe_webhook_event 에 쌓인 PENDING 이벤트를 batch-size 건씩 결제 / 예약에 반영하고,
+ * 꽉 찬 배치가 나오면 남은 게 없을 때까지 이어서 처리한다.
+ * SKIP LOCKED 로 가져오므로 서버가 여러 대여도 같은 이벤트를 두 번 처리하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StripeWebhookScheduler {
+
+    private final PaymentService paymentService;
+
+    @Value("${stripe.webhook.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${stripe.webhook.poll-ms:1000}")
+    public void processEvents() {
+        int total = 0;
+        try {
+            int processed;
+            do {
+                processed = paymentService.processWebhookEvents(batchSize);
+                total += processed;
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("❌ Stripe webhook 이벤트 처리 실패: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("✅ Stripe webhook 이벤트 처리 완료 - processed={}", total);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.meomulm.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 호출용 서킷 브레이커
+ *
+ * - CLOSED    : 정상 호출. 연속 실패가 failureThreshold 회가 되면 OPEN
+ * - OPEN      : openMillis 동안 호출하지 않고 바로 실패 처리
+ * - HALF_OPEN : OPEN 시간이 지나면 시험 호출 1건만 보내고, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *
+ * 외부 서비스가 느려지거나 죽었을 때 요청마다 타임아웃까지 기다리지 않도록 한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * 호출 가능 여부 (false 면 호출하지 말고 바로 실패 처리)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            return true;
+        }
+        // HALF_OPEN 이면 시험 호출 결과가 나올 때까지 다른 호출은 막는다
+        return state == State.CLOSED;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("✅ 서킷 브레이커 [{}] 복구", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            consecutiveFailures = 0;
+            log.error("❌ 서킷 브레이커 [{}] OPEN - {}ms 동안 호출 차단", name, openMillis);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
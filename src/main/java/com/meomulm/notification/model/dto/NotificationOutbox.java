@@ -0,0 +1,22 @@
+package com.meomulm.notification.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationOutbox {
+
+    private long outboxId;
+    private int userId;
+    private String notificationContent;
+    private String notificationLinkUrl;
+    // notification 테이블에 저장된 뒤의 알림 ID (저장 전이면 null)
+    private Integer notificationId;
+    private int attempts;
+    // 중복 적재 방지 키 (없으면 null)
+    private String dedupKey;
+
+}
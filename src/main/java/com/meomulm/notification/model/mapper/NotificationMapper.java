@@ -2,6 +2,7 @@ package com.meomulm.notification.model.mapper;
 
 import com.meomulm.notification.model.dto.Notification;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -9,6 +10,7 @@ import java.util.List;
 public interface NotificationMapper {
     List<Notification> selectNotificationByUserId(int userId);
     int insertNotification(Notification notification);
+    int insertNotifications(@Param("notifications") List<Notification> notifications);
     int updateNotificationStatus(int notificationId);
     int deleteNotification(int notificationId);
 }
@@ -0,0 +1,24 @@
+package com.meomulm.notification.model.mapper;
+
+import com.meomulm.notification.model.dto.Notification;
+import com.meomulm.notification.model.dto.NotificationOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+    int insertOutbox(@Param("notifications") List<Notification> notifications);
+    int insertOutboxOnce(@Param("rows") List<NotificationOutbox> rows);
+    List<NotificationOutbox> selectDispatchable(@Param("batchSize") int batchSize,
+                                                @Param("userIds") Collection<Integer> userIds,
+                                                @Param("pushTtlSeconds") int pushTtlSeconds);
+    int linkNotifications(@Param("rows") List<NotificationOutbox> rows);
+    int markSent(@Param("outboxIds") List<Long> outboxIds);
+    int markRetry(@Param("outboxIds") List<Long> outboxIds,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("retrySeconds") int retrySeconds);
+    int deleteSentBefore(@Param("retentionDays") int retentionDays);
+}
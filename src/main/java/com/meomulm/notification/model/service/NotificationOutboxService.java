@@ -0,0 +1,45 @@
+package com.meomulm.notification.model.service;
+
+import com.meomulm.notification.model.dto.Notification;
+import com.meomulm.notification.model.dto.NotificationOutbox;
+
+import java.util.List;
+
+public interface NotificationOutboxService {
+
+    /**
+     * 알림 1건 적재 (호출한 트랜잭션에 같이 저장되고, 커밋된 뒤 디스패처가 전송)
+     * @param userId 받는 회원 ID
+     * @param content 알림 내용
+     * @param linkUrl 알림 링크 (없으면 null)
+     */
+    void enqueue(int userId, String content, String linkUrl);
+
+    /**
+     * 알림 여러 건 일괄 적재 (multi-row insert)
+     * @param notifications 회원 ID / 내용 / 링크만 사용
+     */
+    void enqueueAll(List<Notification> notifications);
+
+    /**
+     * 중복 방지 키가 있는 알림 일괄 적재 - 같은 키로 이미 적재된 알림은 건너뛴다
+     * (재시도 / 재개로 같은 대상을 다시 적재해도 알림은 한 번만 나간다)
+     * @param rows 회원 ID / 내용 / 링크 / 중복 방지 키만 사용
+     * @return 새로 적재된 알림 수
+     */
+    int enqueueAllOnce(List<NotificationOutbox> rows);
+
+    /**
+     * 쌓인 알림 배치 전송 (notification 테이블 저장 + WebSocket 전송)
+     * @param batchSize 한 번에 처리할 알림 수
+     * @return 처리한 알림 수
+     */
+    int dispatch(int batchSize);
+
+    /**
+     * 보관 기간이 지난 전송 완료 행 정리
+     * @param retentionDays 보관 일수
+     * @return 삭제한 행 수
+     */
+    int deleteSent(int retentionDays);
+}
@@ -0,0 +1,175 @@
+package com.meomulm.notification.model.service;
+
+import com.meomulm.notification.model.dto.Notification;
+import com.meomulm.notification.model.dto.NotificationOutbox;
+import com.meomulm.notification.model.mapper.NotificationMapper;
+import com.meomulm.notification.model.mapper.NotificationOutboxMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 outbox
+ *
+ * 비즈니스 로직은 enqueue 로 알림을 자기 트랜잭션 안에서 outbox 에 쌓기만 하고,
+ * 디스패처(NotificationOutboxScheduler)가 커밋된 알림만 꺼내서
+ * notification 테이블 일괄 저장 → WebSocket 전송 → 결과 일괄 반영을 처리한다.
+ * 전송에 실패한 알림은 시도 횟수만큼 늦춰서 다시 보낸다.
+ *
+ * 서버가 여러 대이면 WebSocket 세션은 회원이 접속한 서버에만 있으므로,
+ * 디스패처는 자기 서버에 접속한 회원의 알림만 가져가고 나머지는 PENDING 으로 남겨 접속한 서버가 보내게 한다.
+ * push-ttl-seconds 가 지나도록 아무 서버도 가져가지 않은 알림(미접속 회원)은 전송 없이 알림 내역에만 저장한다.
+ * 한계 : 같은 회원이 여러 서버에 동시에 접속해 있으면 먼저 가져간 서버의 세션에만 전송된다 (모든 세션에 보내려면 브로커 릴레이 필요).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    // multi-row insert 한 번에 넣을 최대 행 수
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final NotificationOutboxMapper notificationOutboxMapper;
+    private final NotificationMapper notificationMapper;
+    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메세지 전송
+    private final SimpUserRegistry simpUserRegistry;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.retry-seconds:30}")
+    private int retrySeconds;
+
+    // 접속한 서버가 가져가길 기다리는 최대 시간 (초) - 지나면 아무 서버나 알림 내역에만 저장
+    @Value("${notification.outbox.push-ttl-seconds:10}")
+    private int pushTtlSeconds;
+
+    @Transactional
+    @Override
+    public void enqueue(int userId, String content, String linkUrl) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setNotificationContent(content);
+        notification.setNotificationLinkUrl(linkUrl);
+        enqueueAll(List.of(notification));
+    }
+
+    @Transactional
+    @Override
+    public void enqueueAll(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += INSERT_CHUNK_SIZE) {
+            notificationOutboxMapper.insertOutbox(
+                    notifications.subList(from, Math.min(from + INSERT_CHUNK_SIZE, notifications.size())));
+        }
+    }
+
+    @Transactional
+    @Override
+    public int enqueueAllOnce(List<NotificationOutbox> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            inserted += notificationOutboxMapper.insertOutboxOnce(
+                    rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size())));
+        }
+        return inserted;
+    }
+
+    @Transactional
+    @Override
+    public int dispatch(int batchSize) {
+        List<NotificationOutbox> rows =
+                notificationOutboxMapper.selectDispatchable(batchSize, connectedUserIds(), pushTtlSeconds);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 아직 알림 내역에 저장되지 않은 알림 일괄 저장 (재전송 대상은 이미 저장되어 있음)
+        List<NotificationOutbox> unsaved = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationOutbox row : rows) {
+            if (row.getNotificationId() == null) {
+                unsaved.add(row);
+                notifications.add(new Notification(0, row.getUserId(), row.getNotificationContent(),
+                        row.getNotificationLinkUrl(), false, null));
+            }
+        }
+        if (!unsaved.isEmpty()) {
+            notificationMapper.insertNotifications(notifications);
+            for (int i = 0; i < unsaved.size(); i++) {
+                unsaved.get(i).setNotificationId(notifications.get(i).getNotificationId());
+            }
+            notificationOutboxMapper.linkNotifications(unsaved);
+        }
+
+        // 2. 이 서버에 접속 중인 회원에게만 WebSocket 전송
+        //    (그 외에는 push-ttl 이 지나도록 접속한 서버가 없던 알림 → 알림 내역에서 확인)
+        List<Long> sent = new ArrayList<>(rows.size());
+        List<Long> failed = new ArrayList<>();
+        for (NotificationOutbox row : rows) {
+            String user = String.valueOf(row.getUserId());
+            if (simpUserRegistry.getUser(user) == null) {
+                sent.add(row.getOutboxId());
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSendToUser(user, "/queue/notifications", toMessage(row));
+                sent.add(row.getOutboxId());
+            } catch (Exception e) {
+                failed.add(row.getOutboxId());
+                log.error("❌ 알림 전송 실패 (outboxId: {}, 시도 {}회): {}",
+                        row.getOutboxId(), row.getAttempts() + 1, e.getMessage());
+            }
+        }
+
+        // 3. 결과 일괄 반영
+        if (!sent.isEmpty()) {
+            notificationOutboxMapper.markSent(sent);
+        }
+        if (!failed.isEmpty()) {
+            notificationOutboxMapper.markRetry(failed, maxAttempts, retrySeconds);
+        }
+        return rows.size();
+    }
+
+    @Override
+    public int deleteSent(int retentionDays) {
+        return notificationOutboxMapper.deleteSentBefore(retentionDays);
+    }
+
+    // 이 서버에 WebSocket 으로 접속 중인 회원 ID (Principal 이름 = 회원 ID)
+    private Set<Integer> connectedUserIds() {
+        Set<Integer> userIds = new HashSet<>();
+        for (SimpUser user : simpUserRegistry.getUsers()) {
+            try {
+                userIds.add(Integer.valueOf(user.getName()));
+            } catch (NumberFormatException e) {
+                // 회원 ID 가 아닌 Principal 은 대상 아님
+            }
+        }
+        return userIds;
+    }
+
+    private Map<String, Object> toMessage(NotificationOutbox row) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("id", row.getNotificationId());
+        notification.put("userId", row.getUserId());
+        notification.put("notificationContent", row.getNotificationContent());
+        if (row.getNotificationLinkUrl() != null) {
+            notification.put("notificationLinkUrl", row.getNotificationLinkUrl());
+        }
+        notification.put("timestamp", System.currentTimeMillis());
+        return notification;
+    }
+}
@@ -1,5 +1,7 @@
 package com.meomulm.product.controller;
 
+import com.meomulm.product.model.dto.AvailabilityCalendarDay;
+import com.meomulm.product.model.dto.FlexibleStayOption;
 import com.meomulm.product.model.dto.ProductResponse;
 import com.meomulm.product.model.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -35,4 +37,46 @@ public class ProductController {
                 accommodationId, checkInDate, checkOutDate, guestCount);
         return ResponseEntity.ok(res);
     }
-}
\ No newline at end of file
+
+    /**
+     * 숙소 예약 가능 달력 조회 (날짜별 예약 가능 여부 + 최저가)
+     * @param accommodationId   숙소 Id
+     * @param month             시작 월 (yyyy-MM, 없으면 이번 달)
+     * @param months            조회 개월 수 (기본 1, 최대 3)
+     * @param guestCount        인원 수 (없으면 조건 없음)
+     * @return                  날짜별 예약 가능 정보 리스트
+     */
+    @GetMapping("/calendar/{accommodationId}")
+    public ResponseEntity<List<AvailabilityCalendarDay>> getAvailabilityCalendar(
+            @PathVariable int accommodationId,
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false, defaultValue = "1") int months,
+            @RequestParam(required = false) Integer guestCount) {
+        List<AvailabilityCalendarDay> res = productService.getAvailabilityCalendar(
+                accommodationId, month, months, guestCount);
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 날짜 유연 객실 조회 - 기간 안에서 nights 박 예약 가능한 (날짜, 객실) 조합을 총 가격 낮은 순으로
+     * @param accommodationId   숙소 Id
+     * @param from              검색 기간 시작 (yyyy-MM-dd, 첫 체크인 후보)
+     * @param to                검색 기간 끝 (yyyy-MM-dd, 마지막 체크아웃 한도)
+     * @param nights            숙박일 수
+     * @param guestCount        인원 수 (없으면 조건 없음)
+     * @param limit             최대 개수 (기본 5)
+     * @return                  예약 가능한 (날짜, 객실, 가격) 리스트
+     */
+    @GetMapping("/flexible/{accommodationId}")
+    public ResponseEntity<List<FlexibleStayOption>> getFlexibleStays(
+            @PathVariable int accommodationId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam int nights,
+            @RequestParam(required = false) Integer guestCount,
+            @RequestParam(required = false, defaultValue = "5") int limit) {
+        List<FlexibleStayOption> res = productService.getFlexibleStays(
+                accommodationId, from, to, nights, guestCount, limit);
+        return ResponseEntity.ok(res);
+    }
+}
@@ -0,0 +1,76 @@
+package com.meomulm.product.model.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meomulm.product.model.dto.AvailabilityCalendarDay;
+import com.meomulm.product.model.event.ProductInventoryChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 숙소별 예약 가능 달력 캐시
+ *
+ * 값에 달력을 만든 객실 ID 목록을 같이 들고 있다가,
+ * 예약 변경 커밋 시 그 객실을 포함하고 기간이 겹치는 달력만 비운다.
+ * 객실 가격은 쓰는 API 가 없어서 expire-seconds 만료 때 반영된다.
+ */
+@Component
+public class AvailabilityCalendarCache {
+
+    public static final String CACHE_NAME = "availabilityCalendar";
+
+    private final Cache<Key, Entry> cache;
+
+    public AvailabilityCalendarCache(
+            MeterRegistry meterRegistry,
+            @Value("${product.calendar.cache.max-size:5000}") long maxSize,
+            @Value("${product.calendar.cache.expire-seconds:600}") long expireSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 - 없으면 loader 로 만들어서 저장
+     */
+    public List<AvailabilityCalendarDay> get(Key key, Function<Key, Entry> loader) {
+        return cache.get(key, loader).days();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(ProductInventoryChangedEvent event) {
+        cache.asMap().entrySet().removeIf(e ->
+                e.getValue().productIds().contains(event.getProductId())
+                        && e.getKey().fromDate().isBefore(event.getCheckOutDate())
+                        && event.getCheckInDate().isBefore(e.getKey().toDate()));
+    }
+
+    /**
+     * @param accommodationId 숙소 ID
+     * @param fromDate 첫 숙박일
+     * @param toDate 마지막 숙박일 다음 날
+     * @param guestCount 인원 수 (0 이면 조건 없음)
+     */
+    public record Key(int accommodationId, LocalDate fromDate, LocalDate toDate, int guestCount) {
+    }
+
+    /**
+     * @param days 날짜별 예약 가능 정보
+     * @param productIds 달력 계산에 쓴 객실 ID
+     */
+    public record Entry(List<AvailabilityCalendarDay> days, Set<Integer> productIds) {
+    }
+}
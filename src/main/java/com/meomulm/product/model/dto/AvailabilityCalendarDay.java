@@ -0,0 +1,19 @@
+package com.meomulm.product.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityCalendarDay {
+    // 숙박일 (yyyy-MM-dd)
+    private String date;
+    // 예약 가능한 객실이 하나라도 있는지
+    private boolean available;
+    // 예약 가능한 객실 수 (객실 종류 기준)
+    private int availableProductCount;
+    // 예약 가능한 객실 중 최저가 (없으면 null)
+    private Integer minPrice;
+}
@@ -0,0 +1,23 @@
+package com.meomulm.product.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FlexibleStayOption {
+    // 체크인 날짜 (yyyy-MM-dd)
+    private String checkInDate;
+    // 체크아웃 날짜 (yyyy-MM-dd)
+    private String checkOutDate;
+    // 객실 아이디
+    private int productId;
+    // 객실명
+    private String productName;
+    // 1박 가격
+    private int nightlyPrice;
+    // 총 숙박 가격 (1박 가격 x 숙박일 수)
+    private int totalPrice;
+}
@@ -0,0 +1,19 @@
+package com.meomulm.product.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductInventory {
+    // 객실 아이디
+    private int productId;
+    // 숙박일
+    private LocalDate stayDate;
+    // 해당 숙박일 예약 수
+    private int reservedCount;
+}
@@ -0,0 +1,24 @@
+package com.meomulm.product.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 박별 재고 변경 이벤트 (예약 추가 / 취소 / 삭제)
+ *
+ * 예약 트랜잭션 안에서 발행하고, 커밋된 뒤에 예약 가능 인덱스 / 캐시가 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProductInventoryChangedEvent {
+    // 객실 아이디
+    private final int productId;
+    // 변경된 첫 숙박일 (체크인)
+    private final LocalDate checkInDate;
+    // 변경된 마지막 숙박일 다음 날 (체크아웃)
+    private final LocalDate checkOutDate;
+}
@@ -0,0 +1,46 @@
+package com.meomulm.product.model.mapper;
+
+import com.meomulm.product.model.dto.ProductInventory;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+@Mapper
+public interface ProductInventoryMapper {
+    // 숙박일(체크인 ~ 체크아웃 전날) 원장 행이 없으면 예약 수 0 으로 생성
+    int insertMissingInventoryRows(@Param("productId") int productId,
+                                   @Param("checkInDate") Date checkInDate,
+                                   @Param("checkOutDate") Date checkOutDate);
+
+    // 숙박일 원장 행을 날짜 순으로 잠금 (같은 객실 / 겹치는 날짜 예약끼리만 대기)
+    List<ProductInventory> lockInventoryRows(@Param("productId") int productId,
+                                             @Param("checkInDate") Date checkInDate,
+                                             @Param("checkOutDate") Date checkOutDate);
+
+    // 빈 방이 남은 숙박일만 예약 수 + 1 (갱신된 숙박일 수 반환)
+    int increaseReservedCountIfAvailable(@Param("productId") int productId,
+                                         @Param("checkInDate") Date checkInDate,
+                                         @Param("checkOutDate") Date checkOutDate);
+
+    // 숙박일마다 예약 수 - 1
+    int decreaseReservedCount(@Param("productId") int productId,
+                              @Param("checkInDate") Date checkInDate,
+                              @Param("checkOutDate") Date checkOutDate);
+
+    // 기간 내 전체 객실 박별 예약 수 (예약 가능 인덱스 적재용, 예약 수 0 인 행 제외)
+    List<ProductInventory> selectInventoryBetween(@Param("fromDate") LocalDate fromDate,
+                                                  @Param("toDate") LocalDate toDate);
+
+    // 기간 내 객실 1개의 박별 예약 수
+    List<ProductInventory> selectInventoryByProductBetween(@Param("productId") int productId,
+                                                           @Param("fromDate") LocalDate fromDate,
+                                                           @Param("toDate") LocalDate toDate);
+
+    // 기간 내 숙소의 모든 객실 박별 예약 수
+    List<ProductInventory> selectInventoryByAccommodationBetween(@Param("accommodationId") int accommodationId,
+                                                                 @Param("fromDate") LocalDate fromDate,
+                                                                 @Param("toDate") LocalDate toDate);
+}
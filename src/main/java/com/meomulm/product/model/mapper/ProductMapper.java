@@ -2,7 +2,6 @@ package com.meomulm.product.model.mapper;
 
 
 import com.meomulm.product.model.dto.Product;
-import com.meomulm.product.model.dto.ProductFacility;
 import com.meomulm.product.model.dto.ProductImage;
 import org.apache.ibatis.annotations.Mapper;
 
@@ -11,15 +10,15 @@ import java.util.List;
 
 @Mapper
 public interface ProductMapper {
-    // 숙소 아이디를 기반으로 객실 리스트 조회
+    // 숙소 아이디를 기반으로 객실 리스트 조회 (객실별 편의시설 포함)
     List<Product> selectProductsByAccommodationId(int accommodationId);
 
-    // 객실 아이디를 기반으로 객실별 편의시설 조회
-    ProductFacility selectProductFacilityByProductId(int productId);
-
-    // 객실 아이디를 기반으로 객실별 이미지 조회
-    List<ProductImage> selectProductImagesByProductId(int productId);
+    // 숙소 아이디를 기반으로 숙소의 모든 객실 이미지 일괄 조회
+    List<ProductImage> selectProductImagesByAccommodationId(int accommodationId);
 
     // 예약 가능 객실 조회
     List<Integer> selectAvailableProductId(int accommodationId, Date checkInDate, Date checkOutDate, int guestCount);
-}
\ No newline at end of file
+
+    // 전체 객실 조회 (숙소 ID, 객실 ID 순 / 편의시설, 이미지 제외)
+    List<Product> selectAllProducts();
+}
@@ -0,0 +1,20 @@
+package com.meomulm.product.model.service;
+
+import com.meomulm.reservation.model.dto.Reservation;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface ProductInventoryService {
+    /**
+     * 예약 숙박일만큼 객실 재고 차감 (예약 추가 트랜잭션 안에서 호출)
+     * 숙박일 중 하루라도 만실이면 ConflictException (트랜잭션 롤백)
+     * @param reservation 예약 DTO (객실 ID / 체크인 / 체크아웃 필수)
+     */
+    void reserve(Reservation reservation);
+
+    /**
+     * 예약 숙박일만큼 객실 재고 복구 (미결제 / 결제 완료 예약만)
+     * @param reservation 취소 / 삭제 전 예약 DTO
+     */
+    void release(Reservation reservation);
+}
@@ -0,0 +1,88 @@
+package com.meomulm.product.model.service;
+
+import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.common.exception.ConflictException;
+import com.meomulm.product.model.event.ProductInventoryChangedEvent;
+import com.meomulm.product.model.mapper.ProductInventoryMapper;
+import com.meomulm.reservation.model.dto.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 객실 박별 재고 원장 (product_inventory) 관리
+ *
+ * 예약 가능 여부를 매번 겹치는 예약 전체를 세서 구하지 않고,
+ * 예약 추가 / 취소 / 삭제 시점에 (객실, 숙박일) 예약 수를 같은 트랜잭션에서 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductInventoryServiceImpl implements ProductInventoryService {
+
+    // 재고를 차지하는 예약 상태
+    private static final Set<String> HOLDING_STATUSES = Set.of("NOT_PAID", "PAID");
+
+    private final ProductInventoryMapper productInventoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 빈 방이 있을 때만 숙박일 재고 차감 (원자적)
+     * 1. 숙박일 원장 행 보장 2. 날짜 순으로 행 잠금 3. 빈 방 남은 날만 + 1
+     * 갱신된 날이 숙박일 수보다 적으면 만실인 날이 있는 것이므로 예외 -> 트랜잭션 전체 롤백
+     * 잠금은 (객실, 숙박일) 행 단위라 다른 객실 / 겹치지 않는 날짜 예약은 기다리지 않는다.
+     */
+    @Override
+    public void reserve(Reservation reservation) {
+        if (reservation.getCheckInDate() == null || reservation.getCheckOutDate() == null
+                || !reservation.getCheckInDate().before(reservation.getCheckOutDate())) {
+            throw new BadRequestException("체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+        }
+        int productId = reservation.getProductId();
+        Date checkIn = reservation.getCheckInDate();
+        Date checkOut = reservation.getCheckOutDate();
+        long nights = ChronoUnit.DAYS.between(toLocalDate(checkIn), toLocalDate(checkOut));
+
+        productInventoryMapper.insertMissingInventoryRows(productId, checkIn, checkOut);
+        productInventoryMapper.lockInventoryRows(productId, checkIn, checkOut);
+        int updated = productInventoryMapper.increaseReservedCountIfAvailable(productId, checkIn, checkOut);
+        if (updated < nights) {
+            log.warn("❌ 객실 재고 부족 - productId={}, nights={}, available={}", productId, nights, updated);
+            throw new ConflictException("선택한 날짜에 예약 가능한 객실이 없습니다.");
+        }
+        publishChanged(reservation);
+        log.info("✅ 객실 재고 차감 - productId={}, nights={}", productId, nights);
+    }
+
+    @Override
+    public void release(Reservation reservation) {
+        if (!HOLDING_STATUSES.contains(reservation.getStatus())) {
+            return;
+        }
+        int nights = productInventoryMapper.decreaseReservedCount(
+                reservation.getProductId(), reservation.getCheckInDate(), reservation.getCheckOutDate());
+        publishChanged(reservation);
+        log.info("✅ 객실 재고 복구 - reservationId={}, productId={}, nights={}",
+                reservation.getReservationId(), reservation.getProductId(), nights);
+    }
+
+    private void publishChanged(Reservation reservation) {
+        eventPublisher.publishEvent(new ProductInventoryChangedEvent(
+                reservation.getProductId(),
+                toLocalDate(reservation.getCheckInDate()),
+                toLocalDate(reservation.getCheckOutDate())));
+    }
+
+    // java.sql.Date 는 toInstant 를 지원하지 않으므로 밀리초로 변환
+    private static LocalDate toLocalDate(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
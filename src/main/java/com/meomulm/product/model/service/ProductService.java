@@ -1,8 +1,12 @@
 package com.meomulm.product.model.service;
 
+import com.meomulm.product.model.dto.AvailabilityCalendarDay;
+import com.meomulm.product.model.dto.FlexibleStayOption;
 import com.meomulm.product.model.dto.ProductResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public interface ProductService {
     /**
@@ -14,4 +18,26 @@ public interface ProductService {
      * @return 예약 가능한 객실 조회 결과 반환
      */
     ProductResponse getRoomsByAccommodationId(int accommodationId, String checkInDate, String checkOutDate, int guestCount);
-}
\ No newline at end of file
+
+    /**
+     * 숙소 예약 가능 달력 조회
+     * @param accommodationId 숙소 ID
+     * @param month 시작 월 (yyyy-MM)
+     * @param months 조회 개월 수 (1 ~ 3)
+     * @param guestCount 인원 수 (null 이면 조건 없음)
+     * @return 날짜별 예약 가능 여부 + 최저가
+     */
+    List<AvailabilityCalendarDay> getAvailabilityCalendar(int accommodationId, String month, int months, Integer guestCount);
+
+    /**
+     * 날짜 유연 객실 조회
+     * @param accommodationId 숙소 ID
+     * @param from 검색 기간 시작 (yyyy-MM-dd)
+     * @param to 검색 기간 끝 (yyyy-MM-dd)
+     * @param nights 숙박일 수
+     * @param guestCount 인원 수 (null 이면 조건 없음)
+     * @param limit 최대 개수
+     * @return 총 가격 낮은 순 (날짜, 객실, 가격) 리스트
+     */
+    List<FlexibleStayOption> getFlexibleStays(int accommodationId, String from, String to, int nights, Integer guestCount, int limit);
+}
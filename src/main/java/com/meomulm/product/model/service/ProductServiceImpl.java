@@ -2,26 +2,48 @@ package com.meomulm.product.model.service;
 
 import com.meomulm.common.exception.BadRequestException;
 import com.meomulm.common.exception.NotFoundException;
+import com.meomulm.product.model.cache.AvailabilityCalendarCache;
+import com.meomulm.product.model.dto.AvailabilityCalendarDay;
+import com.meomulm.product.model.dto.FlexibleStayOption;
 import com.meomulm.product.model.dto.Product;
-import com.meomulm.product.model.dto.ProductFacility;
 import com.meomulm.product.model.dto.ProductImage;
+import com.meomulm.product.model.dto.ProductInventory;
 import com.meomulm.product.model.dto.ProductResponse;
+import com.meomulm.product.model.mapper.ProductInventoryMapper;
 import com.meomulm.product.model.mapper.ProductMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.sql.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    // 달력 최대 조회 개월 수
+    private static final int MAX_CALENDAR_MONTHS = 3;
+    // 날짜 유연 조회 최대 기간 (일)
+    private static final int MAX_FLEXIBLE_WINDOW_DAYS = 31;
+    // 날짜 유연 조회 최대 결과 수
+    private static final int MAX_FLEXIBLE_OPTIONS = 50;
+
     private final ProductMapper productMapper;
+    private final ProductInventoryMapper productInventoryMapper;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
 
     /**
      * 숙소 ID로 객실 조회
@@ -51,15 +73,14 @@ public class ProductServiceImpl implements ProductService {
         if (productList == null || productList.isEmpty()) {
             throw new NotFoundException("해당 숙소에 등록된 객실이 없습니다.");
         }
+        // 객실마다 이미지를 조회하지 않고 숙소 단위로 한 번에 조회한 뒤 객실 ID 별로 묶어서 저장
+        // (편의시설은 객실 조회 쿼리에서 함께 조회)
+        Map<Integer, List<ProductImage>> imagesByProductId = new HashMap<>();
+        for (ProductImage image : productMapper.selectProductImagesByAccommodationId(accommodationId)) {
+            imagesByProductId.computeIfAbsent(image.getProductId(), k -> new ArrayList<>()).add(image);
+        }
         for (Product product : productList) {
-            int productId = product.getProductId();
-            ProductFacility facility = productMapper.selectProductFacilityByProductId(productId);
-            product.setFacility(facility);
-            List<ProductImage> images = productMapper.selectProductImagesByProductId(productId);
-            if (images == null) {
-                images = Collections.emptyList();
-            }
-            product.setImages(images);
+            product.setImages(imagesByProductId.getOrDefault(product.getProductId(), Collections.emptyList()));
         }
         LocalDate checkIn = LocalDate.parse(checkInDate);
         LocalDate checkOut = LocalDate.parse(checkOutDate);
@@ -75,4 +96,181 @@ public class ProductServiceImpl implements ProductService {
         }
         return new ProductResponse(productList, availableProductId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 숙소 예약 가능 달력 조회
+     * 객실 목록 + 기간 내 박별 예약 수 두 쿼리를 한 번씩만 읽어 날짜별로 계산하고,
+     * 결과는 해당 기간 예약이 바뀔 때까지 캐시
+     * @param accommodationId 숙소 ID
+     * @param month 시작 월 (yyyy-MM)
+     * @param months 조회 개월 수 (1 ~ MAX_CALENDAR_MONTHS)
+     * @param guestCount 인원 수 (null 이면 조건 없음)
+     * @return 날짜별 예약 가능 여부 + 최저가
+     */
+    @Override
+    public List<AvailabilityCalendarDay> getAvailabilityCalendar(int accommodationId, String month, int months, Integer guestCount) {
+        if (accommodationId <= 0) {
+            throw new BadRequestException("유효하지 않은 숙소 ID입니다.");
+        }
+        if (months <= 0 || months > MAX_CALENDAR_MONTHS) {
+            throw new BadRequestException("달력은 1 ~ " + MAX_CALENDAR_MONTHS + "개월까지 조회할 수 있습니다.");
+        }
+        if (guestCount != null && guestCount <= 0) {
+            throw new BadRequestException("인원수는 1명 이상이어야 합니다.");
+        }
+        YearMonth yearMonth;
+        try {
+            yearMonth = month == null || month.isBlank() ? YearMonth.now() : YearMonth.parse(month.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("월은 yyyy-MM 형식으로 입력해주세요.");
+        }
+
+        AvailabilityCalendarCache.Key key = new AvailabilityCalendarCache.Key(
+                accommodationId,
+                yearMonth.atDay(1),
+                yearMonth.plusMonths(months).atDay(1),
+                guestCount == null ? 0 : guestCount);
+        return availabilityCalendarCache.get(key, this::buildAvailabilityCalendar);
+    }
+
+    private AvailabilityCalendarCache.Entry buildAvailabilityCalendar(AvailabilityCalendarCache.Key key) {
+        List<Product> productList = productMapper.selectProductsByAccommodationId(key.accommodationId());
+        if (productList == null || productList.isEmpty()) {
+            throw new NotFoundException("해당 숙소에 등록된 객실이 없습니다.");
+        }
+
+        // (객실 ID, 숙박일) -> 예약 수
+        Map<Integer, Map<LocalDate, Integer>> reservedByProduct = new HashMap<>();
+        for (ProductInventory row : productInventoryMapper.selectInventoryByAccommodationBetween(
+                key.accommodationId(), key.fromDate(), key.toDate())) {
+            reservedByProduct.computeIfAbsent(row.getProductId(), k -> new HashMap<>())
+                    .put(row.getStayDate(), row.getReservedCount());
+        }
+
+        Set<Integer> productIds = new HashSet<>();
+        for (Product product : productList) {
+            productIds.add(product.getProductId());
+        }
+
+        LocalDate today = LocalDate.now();
+        List<AvailabilityCalendarDay> days = new ArrayList<>();
+        for (LocalDate date = key.fromDate(); date.isBefore(key.toDate()); date = date.plusDays(1)) {
+            int availableCount = 0;
+            Integer minPrice = null;
+            if (!date.isBefore(today)) {
+                for (Product product : productList) {
+                    if (product.getProductMaximumNumber() < key.guestCount()) {
+                        continue;
+                    }
+                    int reserved = reservedByProduct.getOrDefault(product.getProductId(), Map.of())
+                            .getOrDefault(date, 0);
+                    if (reserved < product.getProductCount()) {
+                        availableCount++;
+                        minPrice = minPrice == null ? product.getProductPrice() : Math.min(minPrice, product.getProductPrice());
+                    }
+                }
+            }
+            days.add(new AvailabilityCalendarDay(date.toString(), availableCount > 0, availableCount, minPrice));
+        }
+        return new AvailabilityCalendarCache.Entry(days, productIds);
+    }
+
+    /**
+     * 날짜 유연 객실 조회
+     * 객실 목록 + 기간 내 박별 예약 수 두 쿼리만 읽고,
+     * 객실마다 기간을 한 번 훑으면서 최근 nights 박 중 만실인 날 수를 밀어가며 세서
+     * 만실인 날이 없는 시작일을 모두 후보로 모은다. (체크인 후보별로 다시 조회하지 않음)
+     * @param accommodationId 숙소 ID
+     * @param from 검색 기간 시작 (yyyy-MM-dd)
+     * @param to 검색 기간 끝 (yyyy-MM-dd)
+     * @param nights 숙박일 수
+     * @param guestCount 인원 수 (null 이면 조건 없음)
+     * @param limit 최대 개수 (1 ~ MAX_FLEXIBLE_OPTIONS)
+     * @return 총 가격 낮은 순 (같으면 체크인 빠른 순) 리스트
+     */
+    @Override
+    public List<FlexibleStayOption> getFlexibleStays(int accommodationId, String from, String to, int nights, Integer guestCount, int limit) {
+        if (accommodationId <= 0) {
+            throw new BadRequestException("유효하지 않은 숙소 ID입니다.");
+        }
+        if (guestCount != null && guestCount <= 0) {
+            throw new BadRequestException("인원수는 1명 이상이어야 합니다.");
+        }
+        if (limit <= 0 || limit > MAX_FLEXIBLE_OPTIONS) {
+            throw new BadRequestException("조회 개수는 1 ~ " + MAX_FLEXIBLE_OPTIONS + "개까지 가능합니다.");
+        }
+        LocalDate windowStart;
+        LocalDate windowEnd;
+        try {
+            windowStart = LocalDate.parse(from.trim());
+            windowEnd = LocalDate.parse(to.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("날짜는 yyyy-MM-dd 형식으로 입력해주세요.");
+        }
+        if (windowStart.isBefore(LocalDate.now())) {
+            throw new BadRequestException("지난 날짜는 검색할 수 없습니다.");
+        }
+        long windowDays = ChronoUnit.DAYS.between(windowStart, windowEnd);
+        if (windowDays <= 0 || windowDays > MAX_FLEXIBLE_WINDOW_DAYS) {
+            throw new BadRequestException("검색 기간은 1 ~ " + MAX_FLEXIBLE_WINDOW_DAYS + "일이어야 합니다.");
+        }
+        if (nights <= 0 || nights > windowDays) {
+            throw new BadRequestException("숙박일 수는 1박 이상, 검색 기간 이하여야 합니다.");
+        }
+
+        List<Product> productList = productMapper.selectProductsByAccommodationId(accommodationId);
+        if (productList == null || productList.isEmpty()) {
+            throw new NotFoundException("해당 숙소에 등록된 객실이 없습니다.");
+        }
+
+        // (객실 ID, 숙박일) -> 예약 수
+        Map<Integer, Map<LocalDate, Integer>> reservedByProduct = new HashMap<>();
+        for (ProductInventory row : productInventoryMapper.selectInventoryByAccommodationBetween(
+                accommodationId, windowStart, windowEnd)) {
+            reservedByProduct.computeIfAbsent(row.getProductId(), k -> new HashMap<>())
+                    .put(row.getStayDate(), row.getReservedCount());
+        }
+
+        int days = (int) windowDays;
+        List<FlexibleStayOption> options = new ArrayList<>();
+        for (Product product : productList) {
+            if (guestCount != null && product.getProductMaximumNumber() < guestCount) {
+                continue;
+            }
+            Map<LocalDate, Integer> reserved = reservedByProduct.getOrDefault(product.getProductId(), Map.of());
+            boolean[] soldOut = new boolean[days];
+            for (int day = 0; day < days; day++) {
+                soldOut[day] = reserved.getOrDefault(windowStart.plusDays(day), 0) >= product.getProductCount();
+            }
+            // 구간 [start, start + nights) 안의 만실 날 수를 한 칸씩 밀면서 갱신
+            int soldOutNights = 0;
+            for (int day = 0; day < days; day++) {
+                if (soldOut[day]) {
+                    soldOutNights++;
+                }
+                int start = day - nights + 1;
+                if (start < 0) {
+                    continue;
+                }
+                if (soldOutNights == 0) {
+                    LocalDate checkIn = windowStart.plusDays(start);
+                    options.add(new FlexibleStayOption(
+                            checkIn.toString(),
+                            checkIn.plusDays(nights).toString(),
+                            product.getProductId(),
+                            product.getProductName(),
+                            product.getProductPrice(),
+                            product.getProductPrice() * nights));
+                }
+                if (soldOut[start]) {
+                    soldOutNights--;
+                }
+            }
+        }
+
+        options.sort(Comparator.comparingInt(FlexibleStayOption::getTotalPrice)
+                .thenComparing(FlexibleStayOption::getCheckInDate)
+                .thenComparingInt(FlexibleStayOption::getProductId));
+        return options.size() > limit ? new ArrayList<>(options.subList(0, limit)) : options;
+    }
+}
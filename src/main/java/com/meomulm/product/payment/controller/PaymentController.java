@@ -1,5 +1,6 @@
 package com.meomulm.product.payment.controller;
 
+import com.meomulm.common.idempotency.IdempotencyService;
 import com.meomulm.common.util.AuthUtil;
 import com.meomulm.common.util.JwtUtil;
 import com.meomulm.product.payment.model.dto.ConfirmPaymentRequest;
@@ -21,20 +22,25 @@ public class PaymentController {
     private final JwtUtil jwtUtil;
     private final PaymentService paymentService;
     private final AuthUtil authUtil;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 결제정보 추가
+     * (Idempotency-Key 헤더가 있으면 같은 키의 재시도는 결제를 다시 저장하지 않음)
      */
     @PostMapping("/{reservationId}")
     public ResponseEntity<Void> postPayment(
             @RequestHeader("Authorization") String authHeader,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody Payment payment,
             @PathVariable int reservationId) {
 
         authUtil.getCurrentUserId(authHeader);
         int loginUserId = jwtUtil.getUserIdFromToken(authHeader.substring(7));;
-        paymentService.postPayment(payment, reservationId, loginUserId);
-        return ResponseEntity.ok().build();
+        return idempotencyService.execute(idempotencyKey, loginUserId, "POST /api/payment/" + reservationId, payment, () -> {
+            paymentService.postPayment(payment, reservationId, loginUserId);
+            return ResponseEntity.ok().build();
+        });
     }
 
     // ============================================================
@@ -50,18 +56,23 @@ public class PaymentController {
      * 서버는 Stripe SDK 로 PaymentIntent 를 생성하고
      * client_secret 만 앱에 돌려준다.
      *
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 PaymentIntent 를 새로 만들지 않고
+     * 처음 받은 client_secret 을 그대로 돌려준다.
+     *
      * @param authHeader     JWT 토큰
+     * @param idempotencyKey 재시도 구분 키 (선택)
      * @param request        금액 / 통폐화 / 예약ID
      * @return               { "clientSecret": "pi_xxxxx_secret_xxxxx" }
      */
     @PostMapping("/stripe/create-payment-intent")
     public ResponseEntity<CreatePaymentIntentResponse> createPaymentIntent(
             @RequestHeader("Authorization") String authHeader,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody CreatePaymentIntentRequest request) {
 
-        authUtil.getCurrentUserId(authHeader);
-        CreatePaymentIntentResponse response = paymentService.createPaymentIntent(request);
-        return ResponseEntity.ok(response);
+        int loginUserId = authUtil.getCurrentUserId(authHeader);
+        return idempotencyService.execute(idempotencyKey, loginUserId, "POST /api/payment/stripe/create-payment-intent", request,
+                () -> ResponseEntity.ok(paymentService.createPaymentIntent(request)));
     }
 
     /**
@@ -73,17 +84,47 @@ public class PaymentController {
      * 서버는 Stripe SDK 로 PaymentIntent 상태를 다시 조회하여
      * 실제로 "succeeded" 인지 확인한 후 DB 에 결제 정보를 저장한다.
      *
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 Stripe 재조회 / DB 저장 없이 첫 응답을 반환
+     *
      * @param authHeader     JWT 토큰
+     * @param idempotencyKey 재시도 구분 키 (선택)
      * @param request        paymentIntentId + reservationId
      * @return               200 OK (성공) / 400~500 (실패)
      */
     @PostMapping("/stripe/confirm")
     public ResponseEntity<Void> confirmPayment(
             @RequestHeader("Authorization") String authHeader,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody ConfirmPaymentRequest request) {
 
-        authUtil.getCurrentUserId(authHeader);
-        paymentService.confirmPayment(request);
+        int loginUserId = authUtil.getCurrentUserId(authHeader);
+        return idempotencyService.execute(idempotencyKey, loginUserId, "POST /api/payment/stripe/confirm", request, () -> {
+            paymentService.confirmPayment(request);
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    /**
+     * ③ Stripe webhook 수신
+     *
+     * Stripe → POST /api/payment/webhook (Stripe-Signature 헤더 포함)
+     *
+     * 서명 확인 후 이벤트를 큐 테이블에 저장만 하고 바로 200 을 반환한다.
+     * (Stripe 는 응답이 늦으면 같은 이벤트를 다시 보냄)
+     * 결제 / 예약 반영은 백그라운드 워커가 배치로 처리한다.
+     *
+     * 로컬 테스트 : scripts/stripe-webhook-load.sh
+     *
+     * @param signature      Stripe-Signature 헤더
+     * @param payload        이벤트 원문 (서명 검증을 위해 문자열 그대로 받음)
+     * @return               200 OK (저장 또는 이미 받은 이벤트) / 400 (서명 누락 / 오류)
+     */
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> receiveWebhook(
+            @RequestHeader(value = "Stripe-Signature", required = false) String signature,
+            @RequestBody String payload) {
+
+        paymentService.receiveWebhook(payload, signature);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,23 @@
+package com.meomulm.product.payment.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StripeWebhookEvent {
+    // Stripe 이벤트 아이디 (evt_xxxxx)
+    private String eventId;
+    // 이벤트 종류 (payment_intent.succeeded 등)
+    private String eventType;
+    // PaymentIntent 아이디 (pi_xxxxx)
+    private String paymentIntentId;
+    // PaymentIntent metadata 의 예약 아이디
+    private Integer reservationId;
+    // 결제 금액
+    private Long amount;
+    // PENDING / DONE / FAILED
+    private String status;
+}
@@ -3,12 +3,18 @@ package com.meomulm.product.payment.model.mapper;
 
 import com.meomulm.product.payment.model.dto.Payment;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface PaymentMapper {
     // 결제  추가
     void insertPayment(Payment payment);
 
+    // 결제 일괄 추가
+    void insertPayments(@Param("payments") List<Payment> payments);
+
     // 결제 삭제
     void deletePayment(int reservationId);
 }
\ No newline at end of file
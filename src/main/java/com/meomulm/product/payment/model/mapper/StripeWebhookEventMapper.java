@@ -0,0 +1,19 @@
+package com.meomulm.product.payment.model.mapper;
+
+import com.meomulm.product.payment.model.dto.StripeWebhookEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface StripeWebhookEventMapper {
+    // 이벤트 저장 (새로 저장하면 1, 이미 받은 이벤트면 0)
+    int insertEvent(StripeWebhookEvent event);
+
+    // 처리 대기 이벤트 잠금 조회
+    List<StripeWebhookEvent> selectPendingEvents(@Param("batchSize") int batchSize);
+
+    // 처리 완료 표시 후 결과 반환
+    List<StripeWebhookEvent> markEventsProcessed(@Param("eventIds") List<String> eventIds);
+}
@@ -24,4 +24,18 @@ public interface PaymentService {
      * @param request  paymentIntentId + reservationId
      */
     void confirmPayment(ConfirmPaymentRequest request);
+
+    /**
+     * Stripe webhook 수신 (서명 확인 후 큐에 저장)
+     * @param payload    요청 본문 (서명 검증을 위해 원문 그대로)
+     * @param signature  Stripe-Signature 헤더
+     */
+    void receiveWebhook(String payload, String signature);
+
+    /**
+     * 쌓인 Stripe webhook 이벤트 배치 처리
+     * @param batchSize  한 번에 처리할 이벤트 수
+     * @return           처리한 이벤트 수
+     */
+    int processWebhookEvents(int batchSize);
 }
@@ -1,22 +1,33 @@
 package com.meomulm.product.payment.model.service;
 
 import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.common.exception.ConflictException;
 import com.meomulm.common.exception.NotFoundException;
 import com.meomulm.notification.model.dto.Notification;
-import com.meomulm.notification.model.service.NotificationService;
+import com.meomulm.notification.model.service.NotificationOutboxService;
 import com.meomulm.product.payment.model.dto.*;
 import com.meomulm.product.payment.model.mapper.PaymentMapper;
+import com.meomulm.product.payment.model.mapper.StripeWebhookEventMapper;
+import com.meomulm.product.payment.model.stripe.StripeClient;
 import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.reservation.model.mapper.ReservationMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.exception.SignatureVerificationException;
 import com.stripe.exception.StripeException;
 import com.stripe.model.PaymentIntent;
+import com.stripe.net.Webhook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -26,10 +37,22 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentMapper paymentMapper;
     private final ReservationMapper reservationMapper;
-    private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메세지 전송
+    private final NotificationOutboxService notificationOutboxService;
+    private final StripeClient stripeClient;
+    private final TransactionTemplate transactionTemplate;
+    private final StripeWebhookEventMapper stripeWebhookEventMapper;
+    private final ObjectMapper objectMapper;
 
+    // 결제 완료로 처리하는 webhook 이벤트
+    private static final String PAYMENT_SUCCEEDED = "payment_intent.succeeded";
+    // 예약 확정 알림
+    private static final String RESERVATION_COMPLETED_MESSAGE = "예약 완료! 예약 내역에서 확인해보세요.";
+    private static final String RESERVATION_COMPLETED_LINK = "meomulm://mypage/my-reservation?tab=0";
+    // webhook 서명 시각 허용 오차 (초)
+    private static final long WEBHOOK_TOLERANCE_SECONDS = 300;
 
+    @Value("${stripe.webhook.secret:}")
+    private String webhookSecret;
 
     @Transactional
     @Override
@@ -42,32 +65,15 @@ public class PaymentServiceImpl implements PaymentService {
             throw new NotFoundException("예약 정보를 찾을 수 없습니다.");
         }
         payment.setReservationId(reservationId);
-        paymentMapper.insertPayment(payment);
-        reservationMapper.updateStatusToPaid(payment.getReservationId());
-
-        try{
-            Notification n = new Notification();
-            n.setUserId(loginUserId);
-            n.setNotificationContent("예약 완료! 예약 내역에서 확인해보세요.");
-            n.setNotificationLinkUrl("meomulm://mypage/my-reservation?tab=0");
-            notificationService.insertNotification(n);
-
-            int generatedId = n.getNotificationId();
-
-            // meomulm://accommodation-detail/5262
-
-            Map<String, Object> notification = new HashMap<>();
-            notification.put("id", generatedId);
-            notification.put("notificationContent", "예약 완료! 예약 내역에서 확인해보세요.");
-            notification.put("notificationLinkUrl", "meomulm://mypage/my-reservation?tab=0");
-            notification.put("userId", loginUserId);
-            notification.put("timestamp", System.currentTimeMillis());
-            messagingTemplate.convertAndSendToUser(String.valueOf(loginUserId), "/queue/notifications", notification);
-            log.info("String.valueOf(target.getUserId()) : {}", loginUserId);
-            log.info("예약 확정 알림 전송, 저장 완료");
-        } catch (Exception e) {
-            log.error("예약 확정 알림 처리 실패: {}", e.getMessage());
+        // 미결제 예약일 때만 결제 저장 (이미 webhook / 결제 확인으로 처리된 예약이면 중복 저장하지 않음)
+        if (reservationMapper.updateStatusToPaid(reservationId) == 0) {
+            verifyAlreadyPaid(reservationId, "postPayment");
+            return;
         }
+        paymentMapper.insertPayment(payment);
+
+        // 예약 확정 알림 (커밋된 뒤 디스패처가 저장 / 전송)
+        notificationOutboxService.enqueue(loginUserId, RESERVATION_COMPLETED_MESSAGE, RESERVATION_COMPLETED_LINK);
     }
 
     // ============================================================
@@ -96,6 +102,10 @@ public class PaymentServiceImpl implements PaymentService {
         if (reservation == null) {
             throw new NotFoundException("예약 정보를 찾을 수 없습니다.");
         }
+        // 결제 금액은 예약 총가격과 같아야 함 (결제 확인 / webhook 에서도 다시 확인)
+        if (request.getAmount() != reservation.getTotalPrice()) {
+            throw new BadRequestException("결제 금액이 예약 금액과 일치하지 않습니다.");
+        }
 
         try {
             // Stripe PaymentIntent 생성 파라미터
@@ -110,7 +120,7 @@ public class PaymentServiceImpl implements PaymentService {
             metadata.put("reservationId", String.valueOf(request.getReservationId()));
             params.put("metadata", metadata);
 
-            PaymentIntent paymentIntent = PaymentIntent.create(params);
+            PaymentIntent paymentIntent = stripeClient.createPaymentIntent(params);
 
             log.info("[Stripe] PaymentIntent 생성 완료 | id={}, reservationId={}",
                     paymentIntent.getId(), request.getReservationId());
@@ -130,8 +140,10 @@ public class PaymentServiceImpl implements PaymentService {
      *
      * Stripe 로부터 PaymentIntent 를 다시 조회하여
      * status == "succeeded" 를 확인한 후에만 payment 테이블에 저장
+     *
+     * Stripe 조회는 트랜잭션을 열기 전에 끝내고, DB 저장만 짧은 트랜잭션으로 처리한다.
+     * (Stripe 응답을 기다리는 동안 커넥션 풀의 커넥션을 잡고 있지 않도록)
      */
-    @Transactional
     @Override
     public void confirmPayment(ConfirmPaymentRequest request) {
 
@@ -145,35 +157,190 @@ public class PaymentServiceImpl implements PaymentService {
             throw new NotFoundException("예약 정보를 찾을 수 없습니다.");
         }
 
+        PaymentIntent paymentIntent;
         try {
             // Stripe 서버에서 PaymentIntent 상태 재조회
-            PaymentIntent paymentIntent = PaymentIntent.retrieve(request.getPaymentIntentId());
+            paymentIntent = stripeClient.retrievePaymentIntent(request.getPaymentIntentId());
+        } catch (StripeException e) {
+            log.error("[Stripe] PaymentIntent 조회 실패 | msg={}", e.getMessage());
+            throw new BadRequestException("Stripe 결제 확인에 실패했습니다: " + e.getMessage());
+        }
 
-            log.info("[Stripe] PaymentIntent 조회 | id={}, status={}",
-                    paymentIntent.getId(), paymentIntent.getStatus());
+        log.info("[Stripe] PaymentIntent 조회 | id={}, status={}",
+                paymentIntent.getId(), paymentIntent.getStatus());
 
-            // ── 상태가 succeeded 가 아니면 거부 ──
-            if (!"succeeded".equals(paymentIntent.getStatus())) {
-                throw new BadRequestException(
-                        "결제가 완료되지 않았습니다. Stripe 상태: " + paymentIntent.getStatus());
-            }
+        // ── 상태가 succeeded 가 아니면 거부 ──
+        if (!"succeeded".equals(paymentIntent.getStatus())) {
+            throw new BadRequestException(
+                    "결제가 완료되지 않았습니다. Stripe 상태: " + paymentIntent.getStatus());
+        }
 
-            // ── DB 저장 (기존 insertPayment + updateStatusToPaid 활용) ──
-            Payment payment = new Payment();
-            payment.setReservationId(request.getReservationId());
-            payment.setPaymentMethod("stripe_card");                       // 결제 수단
-            payment.setPaidAmount(reservation.getTotalPrice());            // 예약의 총가격
-            payment.setStatus("PAID");
+        // ── 다른 예약의 결제이거나 금액이 예약 총가격과 다르면 거부 (클라이언트가 금액을 정해 PaymentIntent 를 만들 수 있음) ──
+        verifyPaymentIntentMatches(paymentIntent, reservation);
 
+        // ── DB 저장 (기존 insertPayment + updateStatusToPaid 활용) ──
+        Payment payment = new Payment();
+        payment.setReservationId(request.getReservationId());
+        payment.setPaymentMethod("stripe_card");                       // 결제 수단
+        payment.setPaidAmount(reservation.getTotalPrice());            // 예약의 총가격
+        payment.setStatus("PAID");
+
+        // 미결제 예약일 때만 결제 저장 (webhook 이 먼저 처리했으면 그대로 성공, 취소 / 홀드 만료면 409)
+        transactionTemplate.executeWithoutResult(status -> {
+            if (reservationMapper.updateStatusToPaid(request.getReservationId()) == 0) {
+                verifyAlreadyPaid(request.getReservationId(), request.getPaymentIntentId());
+                return;
+            }
             paymentMapper.insertPayment(payment);
-            reservationMapper.updateStatusToPaid(request.getReservationId());
+            notificationOutboxService.enqueue(reservation.getUserId(),
+                    RESERVATION_COMPLETED_MESSAGE, RESERVATION_COMPLETED_LINK);
+        });
 
-            log.info("[Stripe] 결제 확인 & DB 저장 완료 | reservationId={}, paymentIntentId={}",
-                    request.getReservationId(), request.getPaymentIntentId());
+        log.info("[Stripe] 결제 확인 & DB 저장 완료 | reservationId={}, paymentIntentId={}",
+                request.getReservationId(), request.getPaymentIntentId());
+    }
 
-        } catch (StripeException e) {
-            log.error("[Stripe] PaymentIntent 조회 실패 | msg={}", e.getMessage());
-            throw new BadRequestException("Stripe 결제 확인에 실패했습니다: " + e.getMessage());
+    // ============================================================
+    // Stripe webhook
+    // ============================================================
+
+    /**
+     * ③ Stripe webhook 수신
+     *
+     * 서명만 확인하고 결제 완료 이벤트를 stripe_webhook_event 큐에 저장한 뒤 바로 반환한다.
+     * 결제 / 예약 반영은 StripeWebhookScheduler 가 배치로 처리한다.
+     * 같은 이벤트가 다시 오면 event_id 기본 키로 걸러진다.
+     */
+    @Override
+    public void receiveWebhook(String payload, String signature) {
+        if (webhookSecret == null || webhookSecret.isBlank()) {
+            throw new BadRequestException("Stripe webhook 설정이 없습니다.");
+        }
+        if (signature == null || signature.isBlank()) {
+            throw new BadRequestException("Stripe-Signature 헤더가 없습니다.");
+        }
+        try {
+            Webhook.Signature.verifyHeader(payload, signature, webhookSecret, WEBHOOK_TOLERANCE_SECONDS);
+        } catch (SignatureVerificationException e) {
+            log.error("[Stripe] webhook 서명 검증 실패 | msg={}", e.getMessage());
+            throw new BadRequestException("Stripe webhook 서명이 올바르지 않습니다.");
+        }
+
+        StripeWebhookEvent event;
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            String eventType = root.path("type").asText();
+            if (!PAYMENT_SUCCEEDED.equals(eventType)) {
+                return;
+            }
+            JsonNode paymentIntent = root.path("data").path("object");
+            String reservationId = paymentIntent.path("metadata").path("reservationId").asText(null);
+            event = new StripeWebhookEvent(
+                    root.path("id").asText(),
+                    eventType,
+                    paymentIntent.path("id").asText(null),
+                    reservationId == null ? null : Integer.valueOf(reservationId),
+                    paymentIntent.path("amount_received").asLong(),
+                    "PENDING");
+        } catch (JsonProcessingException | NumberFormatException e) {
+            throw new BadRequestException("Stripe webhook 본문을 읽을 수 없습니다.");
+        }
+
+        if (stripeWebhookEventMapper.insertEvent(event) == 0) {
+            log.info("💡 [Stripe] 이미 받은 webhook 이벤트 | id={}", event.getEventId());
+        }
+    }
+
+    /**
+     * ④ 쌓인 webhook 이벤트 배치 처리
+     *
+     * 대기 이벤트를 SKIP LOCKED 로 batchSize 건 가져와서
+     * 미결제 예약 일괄 결제 완료 처리 (UPDATE ... RETURNING) → 결제 일괄 저장 (multi-row INSERT)
+     * → 이벤트 상태 일괄 변경 순으로 한 트랜잭션에서 처리한다.
+     * 이미 결제 확인 API 로 처리된 예약은 UPDATE 에서 빠지므로 결제가 중복 저장되지 않는다.
+     * @param batchSize 한 번에 처리할 이벤트 수
+     * @return 처리한 이벤트 수
+     */
+    @Transactional
+    @Override
+    public int processWebhookEvents(int batchSize) {
+        List<StripeWebhookEvent> events = stripeWebhookEventMapper.selectPendingEvents(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<String> eventIds = new ArrayList<>(events.size());
+        List<StripeWebhookEvent> paymentEvents = new ArrayList<>(events.size());
+        for (StripeWebhookEvent event : events) {
+            eventIds.add(event.getEventId());
+            if (event.getReservationId() != null && event.getAmount() != null) {
+                paymentEvents.add(event);
+            }
+        }
+
+        if (!paymentEvents.isEmpty()) {
+            // 결제 금액이 예약 총가격과 같은 이벤트만 결제 완료 처리 (금액이 다르면 아래에서 FAILED)
+            List<Reservation> paidReservations = reservationMapper.updateStatusToPaidBatch(paymentEvents);
+            if (!paidReservations.isEmpty()) {
+                List<Payment> payments = new ArrayList<>(paidReservations.size());
+                List<Notification> notifications = new ArrayList<>(paidReservations.size());
+                for (Reservation reservation : paidReservations) {
+                    payments.add(new Payment(0, reservation.getReservationId(), "stripe_card",
+                            reservation.getTotalPrice(), "PAID", null));
+                    notifications.add(new Notification(0, reservation.getUserId(),
+                            RESERVATION_COMPLETED_MESSAGE, RESERVATION_COMPLETED_LINK, false, null));
+                }
+                paymentMapper.insertPayments(payments);
+                // 예약 확정 알림 (결제 API 로 처리된 예약과 동일하게, 커밋된 뒤 디스패처가 전송)
+                notificationOutboxService.enqueueAll(notifications);
+            }
+        }
+
+        for (StripeWebhookEvent processed : stripeWebhookEventMapper.markEventsProcessed(eventIds)) {
+            if ("FAILED".equals(processed.getStatus())) {
+                // 홀드 만료 / 취소된 예약에 결제가 들어왔거나 결제 금액이 예약 금액과 다른 경우 - 환불 확인 필요
+                log.error("❌ [Stripe] 결제 반영 실패 (예약 없음, 결제 불가 상태 또는 금액 불일치) | eventId={}, reservationId={}, paymentIntentId={}, amount={}",
+                        processed.getEventId(), processed.getReservationId(), processed.getPaymentIntentId(),
+                        processed.getAmount());
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * PaymentIntent 가 이 예약의 결제인지 확인
+     * metadata 의 예약 ID 와 실제 결제 금액(amount_received)이 예약과 다르면 결제 완료로 처리하지 않고,
+     * 돈은 이미 결제된 상태이므로 환불 확인 로그를 남긴다.
+     */
+    private void verifyPaymentIntentMatches(PaymentIntent paymentIntent, Reservation reservation) {
+        String metadataReservationId = paymentIntent.getMetadata() == null
+                ? null : paymentIntent.getMetadata().get("reservationId");
+        if (!String.valueOf(reservation.getReservationId()).equals(metadataReservationId)) {
+            log.error("❌ [Stripe] 다른 예약의 결제 (환불 확인 필요) | paymentIntentId={}, reservationId={}, metadataReservationId={}",
+                    paymentIntent.getId(), reservation.getReservationId(), metadataReservationId);
+            throw new BadRequestException("해당 예약의 결제가 아닙니다.");
+        }
+        Long amountReceived = paymentIntent.getAmountReceived();
+        if (amountReceived == null || amountReceived != reservation.getTotalPrice()) {
+            log.error("❌ [Stripe] 결제 금액 불일치 (환불 확인 필요) | paymentIntentId={}, reservationId={}, amountReceived={}, totalPrice={}",
+                    paymentIntent.getId(), reservation.getReservationId(), amountReceived, reservation.getTotalPrice());
+            throw new BadRequestException("결제 금액이 예약 금액과 일치하지 않습니다.");
+        }
+    }
+
+    /**
+     * 결제 완료 처리 대상이 없을 때(미결제 상태가 아님) 예약 상태 확인
+     * 이미 결제 완료면 중복 요청으로 보고 그대로 성공,
+     * 취소 / 홀드 만료로 삭제된 예약이면 결제만 된 상태이므로 환불 확인 로그를 남기고 409
+     */
+    private void verifyAlreadyPaid(int reservationId, String paymentRef) {
+        Reservation current = reservationMapper.selectReservationById(reservationId);
+        if (current != null && "PAID".equals(current.getStatus())) {
+            log.info("💡 이미 결제 처리된 예약 - reservationId={}", reservationId);
+            return;
         }
+        log.error("❌ 결제 반영 불가 (환불 확인 필요) - reservationId={}, status={}, paymentRef={}",
+                reservationId, current == null ? "DELETED" : current.getStatus(), paymentRef);
+        throw new ConflictException("취소되었거나 결제 시간이 만료된 예약입니다. 결제 취소는 고객센터로 문의해주세요.");
     }
 }
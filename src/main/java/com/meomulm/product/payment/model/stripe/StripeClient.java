@@ -0,0 +1,80 @@
+package com.meomulm.product.payment.model.stripe;
+
+import com.meomulm.common.exception.ServiceUnavailableException;
+import com.meomulm.common.util.CircuitBreaker;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.ApiException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.PaymentIntent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Stripe API 호출 창구
+ *
+ * 모든 Stripe 네트워크 호출은 여기를 거쳐 서킷 브레이커로 감싼다.
+ * 연결 실패 / Stripe 서버 오류(5xx)만 실패로 세고,
+ * 카드 거절 / 잘못된 요청처럼 Stripe 가 정상 응답한 오류는 실패로 세지 않는다.
+ * DB 트랜잭션 안에서 호출하지 않는다. (응답을 기다리는 동안 커넥션을 잡고 있게 됨)
+ */
+@Slf4j
+@Component
+public class StripeClient {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public StripeClient(
+            MeterRegistry meterRegistry,
+            @Value("${stripe.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${stripe.circuit.open-ms:30000}") long openMillis) {
+        this.circuitBreaker = new CircuitBreaker("stripe", failureThreshold, openMillis);
+        Gauge.builder("stripe.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("Stripe 서킷 브레이커 차단 여부 (1 = 차단)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * PaymentIntent 생성
+     */
+    public PaymentIntent createPaymentIntent(Map<String, Object> params) throws StripeException {
+        return call(() -> PaymentIntent.create(params));
+    }
+
+    /**
+     * PaymentIntent 조회
+     */
+    public PaymentIntent retrievePaymentIntent(String paymentIntentId) throws StripeException {
+        return call(() -> PaymentIntent.retrieve(paymentIntentId));
+    }
+
+    private <T> T call(StripeCall<T> stripeCall) throws StripeException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServiceUnavailableException("결제 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            T result = stripeCall.execute();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (ApiConnectionException | ApiException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (StripeException e) {
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StripeCall<T> {
+        T execute() throws StripeException;
+    }
+}
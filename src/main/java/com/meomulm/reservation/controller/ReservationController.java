@@ -1,5 +1,6 @@
 package com.meomulm.reservation.controller;
 
+import com.meomulm.common.idempotency.IdempotencyService;
 import com.meomulm.common.util.AuthUtil;
 import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.reservation.model.dto.ReservationDeleteRequest;
@@ -20,6 +21,7 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final AuthUtil authUtil;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 예약 추가
@@ -33,18 +35,23 @@ public class ReservationController {
      *       reservationMapper.xml 의 <insert> 태그에
      *         useGeneratedKeys="true" keyProperty="reservationId"
      *       를 추가한다.
+     *
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 예약을 새로 만들지 않고 첫 응답(reservationId)을 그대로 반환
      */
     @PostMapping
     public ResponseEntity<Map<String, Integer>> postReservation(
             @RequestHeader("Authorization") String authHeader,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody Reservation reservation) {
 
         int loginUserId = authUtil.getCurrentUserId(authHeader);
         reservation.setUserId(loginUserId);
-        reservationService.postReservation(reservation);
+        return idempotencyService.execute(idempotencyKey, loginUserId, "POST /api/reservation", reservation, () -> {
+            reservationService.postReservation(reservation);
 
-        // 생성된 reservationId를 응답 body로 반환
-        return ResponseEntity.ok(Map.of("reservationId", reservation.getReservationId()));
+            // 생성된 reservationId를 응답 body로 반환
+            return ResponseEntity.ok(Map.of("reservationId", reservation.getReservationId()));
+        });
     }
 
     /**
@@ -36,4 +36,6 @@ public class Reservation {
     private String createdAt;
     // 변경일자
     private String updatedAt;
+    // 미결제 홀드 만료 시각 (결제 완료 후 null)
+    private Date expiresAt;
 }
\ No newline at end of file
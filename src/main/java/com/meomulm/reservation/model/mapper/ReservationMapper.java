@@ -1,12 +1,15 @@
 package com.meomulm.reservation.model.mapper;
 
 
+import com.meomulm.product.payment.model.dto.StripeWebhookEvent;
 import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.reservation.model.dto.ReservationDTO;
 import com.meomulm.reservation.model.dto.ReservationUpdateRequest;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -18,27 +21,44 @@ public interface ReservationMapper {
 //    // 오늘 체크아웃 예정인 예약 리스트 조회
 //    List<Reservation> selectTodayCheckOutList();
 
-    List<ReservationDTO> selectReservationWithNames(@Param("type") String type);
+    // 알림 대상 예약 스트리밍 조회 (기준 날짜, 예약 ID 순, afterId 다음부터 - 트랜잭션 안에서 읽어야 함)
+    Cursor<ReservationDTO> selectReservationWithNames(@Param("type") String type,
+                                                      @Param("logicalDate") LocalDate logicalDate,
+                                                      @Param("afterId") int afterId);
+
+    // 기준 날짜 체크아웃 예약 일괄 이용 완료 처리 후 반환 (limit 건씩)
+    List<ReservationDTO> updateTodayCheckOutToUsed(@Param("logicalDate") LocalDate logicalDate,
+                                                   @Param("limit") int limit);
 
 
     // 예약 아이디를 기반으로 예약 조회
     Reservation selectReservationById(int reservationId);
 
-    // 예약 추가
-    void insertReservation(Reservation reservation);
+    // 예약 아이디를 기반으로 예약 조회 후 행 잠금 (트랜잭션 안에서 호출)
+    Reservation selectReservationByIdForUpdate(int reservationId);
+
+    // 예약 추가 (홀드 만료 시각 = DB NOW() + holdMinutes 분)
+    void insertReservation(@Param("reservation") Reservation reservation, @Param("holdMinutes") int holdMinutes);
 
     // 예약 수정
     void updateReservation(ReservationUpdateRequest reservation);
     
-    // 예약 상태 변경 (결제 후)
-    void updateStatusToPaid(int reservationId);
+    // 예약 상태 변경 (결제 후) - 미결제 예약일 때만 바뀜 (바뀐 행 수 반환)
+    int updateStatusToPaid(int reservationId);
+
+    // 예약 상태 일괄 변경 (결제 후) 후 바뀐 예약 반환 - 결제 금액이 예약 총가격과 같은 미결제 예약만
+    List<Reservation> updateStatusToPaidBatch(@Param("events") List<StripeWebhookEvent> events);
 
     // 예약 상태 변경 (이용 후)
     void updateStatusToUsed(int reservationId);
 
-    // 예약 취소 (상태 변경)
-    void putReservation(int reservationId);
+    // 예약 취소 (상태 변경) - 미결제 / 결제 완료 예약일 때만 바뀜 (바뀐 행 수 반환)
+    int putReservation(int reservationId);
+
+    // 예약 삭제(미결제 종료) - 본인 예약만 삭제 후 삭제된 예약 반환 (이미 삭제됐으면 null)
+    Reservation deleteReservation(@Param("reservationId") int reservationId,
+                                  @Param("userId") int userId);
 
-    // 예약 삭제(미결제 종료)
-    void deleteReservation(int reservationId);
+    // 만료된 미결제 홀드 일괄 삭제 후 삭제된 예약 반환
+    List<Reservation> deleteExpiredHolds(@Param("batchSize") int batchSize);
 }
\ No newline at end of file
@@ -34,4 +34,11 @@ public interface ReservationService {
      * @param loginUserId 로그인한 유저 ID
      */
     void deleteReservation(ReservationDeleteRequest reservation, int loginUserId);
-}
\ No newline at end of file
+
+    /**
+     * 만료된 미결제 홀드 일괄 해제 (예약 삭제 + 재고 복구)
+     * @param batchSize 한 번에 처리할 최대 건수
+     * @return 해제한 건수
+     */
+    int expireHolds(int batchSize);
+}
@@ -1,11 +1,12 @@
 package com.meomulm.reservation.model.service;
 
 import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.common.exception.ConflictException;
 import com.meomulm.common.exception.ForbiddenException;
 import com.meomulm.common.exception.NotFoundException;
 import com.meomulm.common.util.ValidateUtil;
-import com.meomulm.notification.model.dto.Notification;
-import com.meomulm.notification.model.service.NotificationService;
+import com.meomulm.notification.model.service.NotificationOutboxService;
+import com.meomulm.product.model.service.ProductInventoryService;
 import com.meomulm.product.payment.model.mapper.PaymentMapper;
 import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.reservation.model.dto.ReservationDeleteRequest;
@@ -13,12 +14,11 @@ import com.meomulm.reservation.model.dto.ReservationUpdateRequest;
 import com.meomulm.reservation.model.mapper.ReservationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -27,9 +27,13 @@ public class ReservationServiceImpl implements ReservationService {
 
     private final ReservationMapper reservationMapper;
     private final PaymentMapper paymentMapper;
+    private final ProductInventoryService productInventoryService;
     private final ValidateUtil validateUtil;
-    private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate; // WebSocket 메세지 전송
+    private final NotificationOutboxService notificationOutboxService;
+
+    // 미결제 예약 홀드 시간 (분)
+    @Value("${reservation.hold.minutes:15}")
+    private int holdMinutes;
 
 /*    private boolean isNotExist(String str) {
         return str == null || str.trim().isEmpty();
@@ -81,10 +85,10 @@ public class ReservationServiceImpl implements ReservationService {
         }
         */
         reservation.setBookerPhone(changePhoneForm(reservation.getBookerPhone()));
-        reservationMapper.insertReservation(reservation);
-
-
-
+        // 같은 트랜잭션에서 박별 재고를 먼저 확보 (만실이면 409, 예약 행은 만들지 않음)
+        productInventoryService.reserve(reservation);
+        // 결제 전까지 재고를 잡아두는 시간 - 만료 판정(NOW())과 같은 DB 시계로 계산
+        reservationMapper.insertReservation(reservation, holdMinutes);
     }
 
     /**
@@ -107,48 +111,36 @@ public class ReservationServiceImpl implements ReservationService {
 
     /**
      * 예약 취소 (상태만 변경)
+     * 예약 행을 잠근 뒤 취소하므로, 같은 예약을 동시에 취소해도 재고는 한 번만 복구된다.
      * @param reservation 예약 DTO
      * @param loginUserId 로그인한 유저 ID
      */
     @Transactional
     @Override
     public void putReservation(ReservationDeleteRequest reservation, int loginUserId) {
-        Reservation isExistReservation = reservationMapper.selectReservationById(reservation.getReservationId());
+        Reservation isExistReservation = reservationMapper.selectReservationByIdForUpdate(reservation.getReservationId());
         if(isExistReservation == null) {
             throw new NotFoundException("취소하려는 예약을 찾을 수 없습니다.");
         }
         if(isExistReservation.getUserId() != loginUserId){
             throw new ForbiddenException("예약자 본인만 취소할 수 있습니다.");
         }
-        reservationMapper.putReservation(reservation.getReservationId());
+        if (reservationMapper.putReservation(reservation.getReservationId()) == 0) {
+            throw new ConflictException("이미 취소되었거나 취소할 수 없는 예약입니다.");
+        }
         paymentMapper.deletePayment(reservation.getReservationId());
+        productInventoryService.release(isExistReservation);
 
-        try{
-            Notification n = new Notification();
-            n.setUserId(isExistReservation.getUserId());
-            n.setNotificationContent("예약이 정상적으로 취소 처리되었습니다.");
-            n.setNotificationLinkUrl("meomulm://mypage/my-reservation?tab=2");
-            notificationService.insertNotification(n);
-
-            int generatedId = n.getNotificationId();
-
-            Map<String, Object> notification = new HashMap<>();
-            notification.put("id", generatedId);
-            notification.put("userId", isExistReservation.getUserId());
-            notification.put("notificationContent", "예약이 정상적으로 취소 처리되었습니다.");
-            notification.put("notificationLinkUrl", "meomulm://mypage/my-reservation?tab=2");
-            notification.put("timestamp", System.currentTimeMillis());
-            messagingTemplate.convertAndSendToUser(String.valueOf(isExistReservation.getUserId()), "/queue/notifications", notification);
-            log.info("String.valueOf(target.getUserId()) : {}", isExistReservation.getUserId());
-            log.info("예약 취소 알림 전송, 저장 완료");
-        } catch (Exception e) {
-            log.error("예약 취소 알림 처리 실패 (ID: {}): {}", isExistReservation.getReservationId(), e.getMessage());
-        }
+        // 예약 취소 알림 (커밋된 뒤 디스패처가 저장 / 전송)
+        notificationOutboxService.enqueue(isExistReservation.getUserId(),
+                "예약이 정상적으로 취소 처리되었습니다.", "meomulm://mypage/my-reservation?tab=2");
     }
 
 
     /**
      * 예약 삭제 (미결제 종료)
+     * 실제로 삭제된 행(DELETE ... RETURNING)으로만 재고를 복구하므로,
+     * 홀드 만료 정리와 동시에 삭제해도 재고는 한 번만 복구된다.
      * @param reservation 예약 DTO
      * @param loginUserId 로그인한 유저 ID
      */
@@ -159,8 +151,30 @@ public class ReservationServiceImpl implements ReservationService {
         if(isExistReservation == null) {
             throw new NotFoundException("취소하려는 예약을 찾을 수 없습니다.");
         }
-        reservationMapper.deleteReservation(reservation.getReservationId());
+        if(isExistReservation.getUserId() != loginUserId){
+            throw new ForbiddenException("예약자 본인만 삭제할 수 있습니다.");
+        }
+        Reservation deleted = reservationMapper.deleteReservation(reservation.getReservationId(), loginUserId);
+        if (deleted == null) {
+            throw new NotFoundException("이미 만료되었거나 삭제된 예약입니다.");
+        }
+        productInventoryService.release(deleted);
+    }
 
+    /**
+     * 만료된 미결제 홀드 일괄 해제
+     * 삭제와 재고 복구를 한 트랜잭션에서 처리하고, 커밋 이후 예약 가능 인덱스 / 캐시가 반영
+     * @param batchSize 한 번에 처리할 최대 건수
+     * @return 해제한 건수
+     */
+    @Transactional
+    @Override
+    public int expireHolds(int batchSize) {
+        List<Reservation> expired = reservationMapper.deleteExpiredHolds(batchSize);
+        for (Reservation reservation : expired) {
+            productInventoryService.release(reservation);
+        }
+        return expired.size();
     }
 
-}
\ No newline at end of file
+}
@@ -18,6 +18,8 @@ public interface ReviewMapper {
     List<AccommodationReview> selectReviewByAccommodationId(int accommodationId);
     // 유저아이디를 기반으로 리뷰 조회
     List<MyReview> selectReviewByUserId(int userId);
+    // 리뷰 아이디로 리뷰 조회
+    Review selectReviewById(int reviewId);
     // 리뷰 추가
     int insertReview(Review review);
     // 리뷰 삭제
@@ -1,5 +1,6 @@
 package com.meomulm.review.model.service;
 
+import com.meomulm.accommodation.model.event.AccommodationChangedEvent;
 import com.meomulm.common.exception.BadRequestException;
 import com.meomulm.common.exception.NotFoundException;
 import com.meomulm.review.model.dto.AccommodationReview;
@@ -9,6 +10,7 @@ import com.meomulm.review.model.dto.ReviewSummary;
 import com.meomulm.review.model.mapper.ReviewMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewMapper reviewMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ReviewSummary getReviewSummaryByAccommodationId(int accommodationId) {
@@ -91,9 +94,12 @@ public class ReviewServiceImpl implements ReviewService {
 
         int result = reviewMapper.insertReview(review);
 
-        if (result != 0) {
+        if (result != 1) {
             throw new BadRequestException("리뷰 저장에 실패했습니다.");
         }
+
+        // 커밋 후 숙소 검색 집계(평점 / 리뷰 수) 반영
+        eventPublisher.publishEvent(AccommodationChangedEvent.reviewAdded(accommodationId, rating));
     }
 
     /**
@@ -104,15 +110,21 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     @Override
     public void deleteReview(int reviewId, int userId) {
+        Review existReview = reviewMapper.selectReviewById(reviewId);
+
         Review review = new Review();
         review.setReviewId(reviewId);
         review.setUserId(userId);
 
         int result = reviewMapper.deleteReview(review);
 
-        if (result == 0) {
+        if (result == 0 || existReview == null) {
             throw new NotFoundException("삭제할 리뷰가 존재하지 않습니다.");
         }
+
+        // 커밋 후 숙소 검색 집계(평점 / 리뷰 수) 반영
+        eventPublisher.publishEvent(
+                AccommodationChangedEvent.reviewDeleted(existReview.getAccommodationId(), existReview.getRating()));
     }
 
 }
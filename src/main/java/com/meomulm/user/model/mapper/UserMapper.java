@@ -5,15 +5,19 @@ import com.meomulm.reservation.model.dto.Reservation;
 import com.meomulm.user.model.dto.MyReservationResponse;
 import com.meomulm.user.model.dto.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
 public interface UserMapper {
 
 
-    // 오늘이 생일인 회원 리스트 조회
-    List<User> selectTodayBirthdayList();
+    // 기준 날짜가 생일인 회원 스트리밍 조회 (회원 ID 순, afterId 다음부터 - 트랜잭션 안에서 읽어야 함)
+    Cursor<User> selectTodayBirthdayList(@Param("logicalDate") LocalDate logicalDate,
+                                         @Param("afterId") int afterId);
 
     // 회원정보 조회
     User selectUserInfoById(int userId);
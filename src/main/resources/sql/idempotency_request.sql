@@ -0,0 +1,18 @@
+-- Idempotency-Key 요청 기록
+-- 같은 사용자가 같은 키로 다시 보낸 요청은 비즈니스 로직을 실행하지 않고 저장된 첫 응답을 돌려준다.
+CREATE TABLE IF NOT EXISTS idempotency_request (
+    user_id          INTEGER      NOT NULL,
+    idempotency_key  VARCHAR(100) NOT NULL,
+    endpoint         VARCHAR(100) NOT NULL,
+    request_hash     CHAR(64)     NOT NULL,
+    status           VARCHAR(20)  NOT NULL,  -- IN_PROGRESS / COMPLETED
+    response_status  INTEGER,
+    response_body    TEXT,
+    created_at       TIMESTAMP    NOT NULL DEFAULT NOW(),
+    expires_at       TIMESTAMP    NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+-- 만료 기록 정리용
+CREATE INDEX IF NOT EXISTS idx_idempotency_request_expires_at
+    ON idempotency_request (expires_at);
@@ -0,0 +1,27 @@
+-- 알림 outbox
+-- 예약 취소 / 결제 / 스케줄러 작업은 같은 트랜잭션 안에서 여기에 알림을 쌓기만 하고,
+-- 디스패처가 PENDING 행을 배치로 꺼내 notification 테이블 저장 + WebSocket 전송을 처리한다.
+-- 롤백된 트랜잭션의 알림은 행 자체가 남지 않으므로 전송되지 않는다.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    outbox_id              BIGSERIAL    PRIMARY KEY,
+    user_id                INTEGER      NOT NULL,
+    notification_content   VARCHAR(500) NOT NULL,
+    notification_link_url  VARCHAR(500),
+    notification_id        INTEGER,                             -- notification 테이블에 저장된 뒤의 알림 ID
+    dedup_key              VARCHAR(100),                        -- 중복 적재 방지 키 (스케줄러 작업 : 작업:날짜:대상키)
+    status                 VARCHAR(20)  NOT NULL DEFAULT 'PENDING',  -- PENDING / SENT / FAILED
+    attempts               INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at        TIMESTAMP    NOT NULL DEFAULT NOW(),
+    created_at             TIMESTAMP    NOT NULL DEFAULT NOW(),
+    sent_at                TIMESTAMP
+);
+
+-- 디스패처가 꺼낼 행만 담는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending
+    ON notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+
+-- 같은 작업 / 날짜 / 대상 알림은 한 번만 적재 (재개된 청크가 다시 적재되어도 무시)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_notification_outbox_dedup_key
+    ON notification_outbox (dedup_key)
+    WHERE dedup_key IS NOT NULL;
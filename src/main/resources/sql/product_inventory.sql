@@ -0,0 +1,21 @@
+-- 객실 박(泊)별 예약 수 원장
+-- 예약 추가 시 체크인 ~ 체크아웃 전날까지 하루 1행씩 reserved_count + 1,
+-- 취소 / 삭제 시 - 1. 예약 가능 여부는 숙박일 수만큼의 행만 확인한다.
+CREATE TABLE IF NOT EXISTS product_inventory (
+    product_id     INT  NOT NULL REFERENCES product (product_id) ON DELETE CASCADE,
+    stay_date      DATE NOT NULL,
+    reserved_count INT  NOT NULL DEFAULT 0 CHECK (reserved_count >= 0),
+    PRIMARY KEY (product_id, stay_date)
+);
+
+-- 기존 예약(미결제 / 결제 완료)으로 원장 채우기 (최초 1회)
+INSERT INTO product_inventory (product_id, stay_date, reserved_count)
+SELECT r.product_id, d.stay_date::date, COUNT(*)
+FROM reservation r
+         CROSS JOIN LATERAL generate_series(r.check_in_date::date,
+                                            r.check_out_date::date - 1,
+                                            INTERVAL '1 day') AS d(stay_date)
+WHERE r.status IN ('NOT_PAID', 'PAID')
+GROUP BY r.product_id, d.stay_date::date
+ON CONFLICT (product_id, stay_date) DO UPDATE
+    SET reserved_count = EXCLUDED.reserved_count;
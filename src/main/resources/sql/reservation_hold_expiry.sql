@@ -0,0 +1,14 @@
+-- 미결제 예약 홀드 만료 시각
+-- NOT_PAID 로 생성된 예약은 expires_at 까지 결제되지 않으면 스케줄러가 삭제하고 재고를 되돌린다.
+ALTER TABLE reservation ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP;
+
+-- 만료 대상만 담는 부분 인덱스 (결제 완료 / 취소 예약은 포함하지 않음)
+CREATE INDEX IF NOT EXISTS idx_reservation_hold_expires_at
+    ON reservation (expires_at)
+    WHERE status = 'NOT_PAID';
+
+-- 기존 미결제 예약은 지금부터 홀드 시간 부여
+UPDATE reservation
+SET expires_at = NOW() + INTERVAL '15 minutes'
+WHERE status = 'NOT_PAID'
+  AND expires_at IS NULL;
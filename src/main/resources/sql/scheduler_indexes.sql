@@ -0,0 +1,15 @@
+-- 스케줄러 작업 대상 조회용 인덱스
+-- 체크인 / 체크아웃 / 생일 알림은 대상 전체를 훑지 않고 인덱스 순서(키 순 청크)로 읽는다.
+
+-- 결제 완료 예약의 체크인 / 체크아웃 날짜 (+ 예약 ID 순 청크)
+CREATE INDEX IF NOT EXISTS idx_reservation_paid_check_in
+    ON reservation (check_in_date, reservation_id)
+    WHERE status = 'PAID';
+
+CREATE INDEX IF NOT EXISTS idx_reservation_paid_check_out
+    ON reservation (check_out_date, reservation_id)
+    WHERE status = 'PAID';
+
+-- 생일 월-일 (user_birth 는 'YYYY-MM-DD' 문자열)
+CREATE INDEX IF NOT EXISTS idx_users_birth_month_day
+    ON users (RIGHT(user_birth, 5), user_id);
@@ -0,0 +1,20 @@
+-- 스케줄러 작업 실행 기록 (작업 + 논리 날짜별 1행)
+-- 같은 날 같은 작업은 한 번만 완료되고, 중간에 서버가 죽으면 last_key 다음부터 이어서 처리한다.
+-- last_key 는 작업 결과(알림 적재 등)와 같은 트랜잭션에서 갱신된다.
+-- attempts 는 선점(실행 시작) 횟수 - scheduler.job.max-attempts 에 도달하면 더 이상 재시도하지 않는다.
+CREATE TABLE IF NOT EXISTS scheduler_job_run (
+    job_name         VARCHAR(50)  NOT NULL,
+    logical_date     DATE         NOT NULL,
+    status           VARCHAR(20)  NOT NULL,  -- RUNNING / COMPLETED / FAILED
+    last_key         INTEGER      NOT NULL DEFAULT 0,
+    processed_count  INTEGER      NOT NULL DEFAULT 0,
+    attempts         INTEGER      NOT NULL DEFAULT 1,
+    last_error       VARCHAR(1000),
+    started_at       TIMESTAMP    NOT NULL DEFAULT NOW(),
+    updated_at       TIMESTAMP    NOT NULL DEFAULT NOW(),
+    completed_at     TIMESTAMP,
+    PRIMARY KEY (job_name, logical_date)
+);
+
+-- 기존 테이블에 시도 횟수 추가
+ALTER TABLE scheduler_job_run ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 1;
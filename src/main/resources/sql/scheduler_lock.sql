@@ -0,0 +1,9 @@
+-- 스케줄러 분산 락 (lease 방식)
+-- 서버 여러 대 중 locked_until 이 지난 락을 먼저 가져간 서버 한 대만 작업을 실행한다.
+-- 실행 중에는 소유 서버가 주기적으로 locked_until 을 연장하고, 서버가 죽으면 lease 만료 후 다른 서버가 가져간다.
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    lock_name     VARCHAR(100) PRIMARY KEY,
+    owner_id      VARCHAR(200) NOT NULL,
+    locked_at     TIMESTAMP    NOT NULL DEFAULT NOW(),
+    locked_until  TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,19 @@
+-- Stripe webhook 이벤트 수신 큐
+-- 웹훅 요청은 서명 확인 후 여기에 쌓기만 하고 바로 응답하며,
+-- 백그라운드 워커가 PENDING 이벤트를 배치로 꺼내 결제 / 예약 상태에 반영한다.
+-- event_id 가 기본 키이므로 Stripe 가 같은 이벤트를 다시 보내도 한 번만 저장된다.
+CREATE TABLE IF NOT EXISTS stripe_webhook_event (
+    event_id           VARCHAR(100) PRIMARY KEY,
+    event_type         VARCHAR(100) NOT NULL,
+    payment_intent_id  VARCHAR(100),
+    reservation_id     INTEGER,
+    amount             BIGINT,
+    status             VARCHAR(20)  NOT NULL DEFAULT 'PENDING',  -- PENDING / DONE / FAILED
+    received_at        TIMESTAMP    NOT NULL DEFAULT NOW(),
+    processed_at       TIMESTAMP
+);
+
+-- 워커가 처리할 이벤트만 담는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_stripe_webhook_event_pending
+    ON stripe_webhook_event (received_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,70 @@
+package com.meomulm.accommodation.model.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BK-tree 조회 결과를 전체 탐색(brute force) 결과와 비교
+ * 조회 시 거리 계산을 중간에 끊어도 허용 거리 이내 단어를 빠뜨리지 않아야 한다.
+ */
+class BkTreeTest {
+
+    @Test
+    @DisplayName("허용 거리 이내 단어 조회는 전체 탐색 결과와 같다")
+    void searchMatchesBruteForce() {
+        Random random = new Random(7);
+        // 알파벳 4개로 짧은 단어를 만들어 거리가 가까운 단어가 많이 생기도록
+        List<String> terms = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 2_000; i++) {
+            terms.add(randomTerm(random));
+            tree.add(terms.get(i), i);
+        }
+
+        for (int q = 0; q < 300; q++) {
+            String query = randomTerm(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertThat(tree.search(query, maxDistance)).as("query=%s maxDistance=%d", query, maxDistance)
+                        .containsExactlyInAnyOrderElementsOf(bruteForce(terms, query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("거리 계산은 limit 를 넘으면 limit + 1 로 끊고, 넘지 않으면 정확한 거리")
+    void distanceWithLimit() {
+        assertThat(BkTree.distance("kitten", "sitting", Integer.MAX_VALUE)).isEqualTo(3);
+        assertThat(BkTree.distance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(BkTree.distance("kitten", "sitting", 1)).isEqualTo(2);
+        assertThat(BkTree.distance("a", "abcd", 2)).isEqualTo(3);
+    }
+
+    // 같은 단어가 여러 번 등록되면 처음 등록한 번호만 남는다
+    private static List<Integer> bruteForce(List<String> terms, String query, int maxDistance) {
+        Set<String> seen = new HashSet<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            if (seen.add(terms.get(i)) && BkTree.distance(query, terms.get(i), Integer.MAX_VALUE) <= maxDistance) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    private static String randomTerm(Random random) {
+        int length = 1 + random.nextInt(8);
+        StringBuilder term = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            term.append((char) ('a' + random.nextInt(4)));
+        }
+        return term.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.meomulm.accommodation.model.index;
+
+import com.meomulm.accommodation.model.index.GeoGridIndex.GeoHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 공간 인덱스 조회 결과를 전체 탐색(brute force) 결과와 비교
+ */
+class GeoGridIndexTest {
+
+    private static final int SIZE = 3_000;
+
+    private int[] ids;
+    private double[] latitudes;
+    private double[] longitudes;
+    private GeoGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        ids = new int[SIZE];
+        latitudes = new double[SIZE];
+        longitudes = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ids[i] = i + 1;
+            // 대부분 수도권, 일부는 부산 / 제주처럼 멀리 떨어진 곳
+            if (i % 10 == 0) {
+                latitudes[i] = 33.2 + random.nextDouble() * 2.0;
+                longitudes[i] = 126.2 + random.nextDouble() * 3.0;
+            } else {
+                latitudes[i] = 37.4 + random.nextDouble() * 0.3;
+                longitudes[i] = 126.8 + random.nextDouble() * 0.4;
+            }
+        }
+        // 좌표 없는 숙소는 어떤 조회에도 나오지 않아야 한다
+        latitudes[SIZE - 1] = Double.NaN;
+        longitudes[SIZE - 1] = Double.NaN;
+        index = new GeoGridIndex(ids, latitudes, longitudes);
+    }
+
+    @Test
+    @DisplayName("가까운 k개 조회는 전체 탐색의 가까운 순 상위 k개와 같다")
+    void nearestMatchesBruteForce() {
+        double[][] origins = {{37.55, 126.98}, {37.40, 126.80}, {35.10, 129.04}, {33.50, 126.53}, {38.50, 128.50}};
+        for (double[] origin : origins) {
+            for (int k : new int[]{1, 5, 30, 200}) {
+                List<GeoHit> hits = index.nearest(origin[0], origin[1], k);
+                List<Integer> expected = bruteForceByDistance(origin[0], origin[1]).subList(0, k);
+
+                assertThat(hits).extracting(GeoHit::accommodationId).as("origin=%s,%s k=%d", origin[0], origin[1], k)
+                        .containsExactlyElementsOf(expected);
+                assertThat(hits).isSortedAccordingTo(Comparator.comparingDouble(GeoHit::distanceMeters));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("k 가 0 이하면 빈 결과, 숙소 수보다 크면 좌표 있는 숙소 전체")
+    void nearestEdgeCases() {
+        assertThat(index.nearest(37.55, 126.98, 0)).isEmpty();
+
+        GeoGridIndex small = new GeoGridIndex(new int[]{1, 2, 3},
+                new double[]{37.50, 37.60, Double.NaN}, new double[]{127.00, 127.10, Double.NaN});
+        assertThat(small.nearest(37.50, 127.00, 10)).extracting(GeoHit::accommodationId)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("지도 영역 조회는 영역 안(경계 포함)의 숙소만 숙소 ID 순으로 반환")
+    void withinBoundingBoxMatchesBruteForce() {
+        double[][] boxes = {
+                {37.50, 126.90, 37.60, 127.05},
+                {37.45, 126.85, 37.46, 126.86},
+                {33.0, 126.0, 36.0, 130.0},
+                {10.0, 10.0, 11.0, 11.0}
+        };
+        for (double[] box : boxes) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < SIZE; i++) {
+                if (latitudes[i] >= box[0] && latitudes[i] <= box[2]
+                        && longitudes[i] >= box[1] && longitudes[i] <= box[3]) {
+                    expected.add(ids[i]);
+                }
+            }
+
+            List<GeoHit> hits = index.withinBoundingBox(box[0], box[1], box[2], box[3]);
+
+            assertThat(hits).extracting(GeoHit::accommodationId).containsExactlyElementsOf(expected);
+            double centerLat = (box[0] + box[2]) / 2;
+            double centerLon = (box[1] + box[3]) / 2;
+            for (GeoHit hit : hits) {
+                int i = hit.accommodationId() - 1;
+                assertThat(hit.distanceMeters()).isEqualTo(
+                        GeoGridIndex.distanceMeters(centerLat, centerLon, latitudes[i], longitudes[i]));
+            }
+        }
+    }
+
+    // 좌표 있는 숙소 전체를 거리 순으로 정렬한 숙소 ID
+    private List<Integer> bruteForceByDistance(double latitude, double longitude) {
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            if (!Double.isNaN(latitudes[i])) {
+                all.add(i);
+            }
+        }
+        all.sort(Comparator.comparingDouble(i ->
+                GeoGridIndex.distanceMeters(latitude, longitude, latitudes[i], longitudes[i])));
+        List<Integer> result = new ArrayList<>(all.size());
+        for (int i : all) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package com.meomulm.accommodation.model.service;
+
+import com.meomulm.accommodation.model.cache.AccommodationSearchCache;
+import com.meomulm.accommodation.model.dto.AccommodationIndexRow;
+import com.meomulm.accommodation.model.dto.SearchAccommodationPage;
+import com.meomulm.accommodation.model.dto.SearchAccommodationRequest;
+import com.meomulm.accommodation.model.dto.SearchAccommodationResponse;
+import com.meomulm.accommodation.model.index.AccommodationAvailabilityIndex;
+import com.meomulm.accommodation.model.index.AccommodationSearchIndex;
+import com.meomulm.accommodation.model.index.AccommodationSearchProjection;
+import com.meomulm.accommodation.model.index.RegionPriceLeaderboard;
+import com.meomulm.accommodation.model.mapper.AccommodationMapper;
+import com.meomulm.common.exception.BadRequestException;
+import com.meomulm.common.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가까운 숙소 k개(nearest) / 지도 영역(bounding box) 검색
+ * 실제 인메모리 검색 인덱스에 숙소를 적재하고 서비스 조회 결과를 확인한다. (DB / 캐시는 mock)
+ */
+@ExtendWith(MockitoExtension.class)
+class AccommodationGeoSearchTest {
+
+    // 서울시청 기준
+    private static final double ORIGIN_LATITUDE = 37.5665;
+    private static final double ORIGIN_LONGITUDE = 126.9780;
+
+    @Mock
+    private AccommodationMapper accommodationMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AccommodationSearchCache accommodationSearchCache;
+    @Mock
+    private RegionPriceLeaderboard regionPriceLeaderboard;
+    @Mock
+    private AccommodationAvailabilityIndex accommodationAvailabilityIndex;
+
+    private AccommodationServiceImpl accommodationService;
+
+    @BeforeEach
+    void setUp() {
+        // 숙소 ID 오름차순 (인덱스 적재 쿼리와 동일)
+        when(accommodationMapper.selectAccommodationIndexRows()).thenReturn(List.of(
+                row(1, "시청 호텔", 37.5666, 126.9781, "HOTEL"),     // 기준점 바로 옆
+                row(2, "광화문 스테이", 37.5759, 126.9768, "HOTEL"),  // 약 1km
+                row(3, "강남 호텔", 37.4979, 127.0276, "MOTEL"),      // 약 9km
+                row(4, "인천 호텔", 37.4563, 126.7052, "HOTEL"),      // 약 27km
+                row(5, "부산 호텔", 35.1796, 129.0756, "HOTEL")));    // 약 325km
+        AccommodationSearchProjection projection = new AccommodationSearchProjection(accommodationMapper);
+        AccommodationSearchIndex searchIndex = new AccommodationSearchIndex(accommodationMapper, projection, eventPublisher);
+        searchIndex.refresh();
+
+        accommodationService = new AccommodationServiceImpl(accommodationMapper, searchIndex, projection,
+                accommodationSearchCache, regionPriceLeaderboard, accommodationAvailabilityIndex);
+        ReflectionTestUtils.setField(accommodationService, "defaultRadiusMeters", 5000);
+        ReflectionTestUtils.setField(accommodationService, "maxRadiusMeters", 50000);
+        ReflectionTestUtils.setField(accommodationService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(accommodationService, "searchImageLimit", 5);
+
+        // 결과 캐시는 그대로 실제 검색 실행
+        lenient().when(accommodationSearchCache.get(any(), any())).thenAnswer(invocation -> {
+            Function<SearchAccommodationRequest, SearchAccommodationPage> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+    }
+
+    @Test
+    @DisplayName("통합 검색 nearest=k : 반경과 관계없이 가까운 순 k개")
+    void searchNearest() {
+        SearchAccommodationRequest request = new SearchAccommodationRequest();
+        request.setLatitude(ORIGIN_LATITUDE);
+        request.setLongitude(ORIGIN_LONGITUDE);
+        request.setNearest(3);
+
+        SearchAccommodationPage page = accommodationService.searchAccommodations(request);
+
+        // 기본 반경(5km) 밖인 강남 호텔도 가까운 3개에 포함
+        assertThat(page.getAccommodations()).extracting(SearchAccommodationResponse::getAccommodationId)
+                .containsExactly(1, 2, 3);
+        assertThat(page.getAccommodations()).allSatisfy(response -> assertThat(response.getDistance()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("통합 검색 nearest=k + 숙소 종류 : 가까운 k개 중 조건에 맞는 숙소만")
+    void searchNearestWithFilter() {
+        SearchAccommodationRequest request = new SearchAccommodationRequest();
+        request.setLatitude(ORIGIN_LATITUDE);
+        request.setLongitude(ORIGIN_LONGITUDE);
+        request.setNearest(3);
+        request.setTypes(List.of("HOTEL"));
+
+        SearchAccommodationPage page = accommodationService.searchAccommodations(request);
+
+        assertThat(page.getAccommodations()).extracting(SearchAccommodationResponse::getAccommodationId)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("지도 검색 nearest=k")
+    void mapNearest() {
+        SearchAccommodationRequest request = new SearchAccommodationRequest();
+        request.setLatitude(ORIGIN_LATITUDE);
+        request.setLongitude(ORIGIN_LONGITUDE);
+        request.setNearest(4);
+
+        SearchAccommodationPage page = accommodationService.getAccommodationByLocation(request);
+
+        assertThat(page.getAccommodations()).extracting(SearchAccommodationResponse::getAccommodationId)
+                .containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("nearest 는 1 ~ 100")
+    void nearestOutOfRange() {
+        SearchAccommodationRequest request = new SearchAccommodationRequest();
+        request.setLatitude(ORIGIN_LATITUDE);
+        request.setLongitude(ORIGIN_LONGITUDE);
+        request.setNearest(0);
+
+        assertThatThrownBy(() -> accommodationService.getAccommodationByLocation(request))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("지도 영역 검색 : 영역 안의 숙소만, 기본은 영역 중심에서 가까운 순")
+    void boundingBox() {
+        SearchAccommodationRequest request = viewport(37.45, 126.90, 37.60, 127.10);
+
+        SearchAccommodationPage page = accommodationService.getAccommodationInBoundingBox(request);
+
+        // 중심 (37.525, 127.0) 기준 : 강남 < 시청 < 광화문, 인천 / 부산은 영역 밖
+        assertThat(page.getAccommodations()).extracting(SearchAccommodationResponse::getAccommodationId)
+                .containsExactly(3, 1, 2);
+    }
+
+    @Test
+    @DisplayName("통합 검색의 지도 영역 조건은 다른 조건과 함께 적용")
+    void searchWithinBoundingBox() {
+        SearchAccommodationRequest request = viewport(37.45, 126.90, 37.60, 127.10);
+        request.setTypes(List.of("HOTEL"));
+
+        SearchAccommodationPage page = accommodationService.searchAccommodations(request);
+
+        assertThat(page.getAccommodations()).extracting(SearchAccommodationResponse::getAccommodationId)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("지도 영역이 비어 있거나 일부만 있거나 뒤집혀 있으면 400, 영역 안에 숙소가 없으면 404")
+    void boundingBoxValidation() {
+        assertThatThrownBy(() -> accommodationService.getAccommodationInBoundingBox(new SearchAccommodationRequest()))
+                .isInstanceOf(BadRequestException.class);
+
+        SearchAccommodationRequest partial = viewport(37.45, 126.90, 37.60, 127.10);
+        partial.setMaxLongitude(null);
+        assertThatThrownBy(() -> accommodationService.getAccommodationInBoundingBox(partial))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThatThrownBy(() -> accommodationService.getAccommodationInBoundingBox(
+                viewport(37.60, 126.90, 37.45, 127.10)))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThatThrownBy(() -> accommodationService.getAccommodationInBoundingBox(
+                viewport(36.0, 128.0, 36.1, 128.1)))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private static SearchAccommodationRequest viewport(double minLatitude, double minLongitude,
+                                                       double maxLatitude, double maxLongitude) {
+        SearchAccommodationRequest request = new SearchAccommodationRequest();
+        request.setMinLatitude(minLatitude);
+        request.setMinLongitude(minLongitude);
+        request.setMaxLatitude(maxLatitude);
+        request.setMaxLongitude(maxLongitude);
+        return request;
+    }
+
+    private static AccommodationIndexRow row(int id, String name, double latitude, double longitude,
+                                             String categoryCode) {
+        AccommodationIndexRow row = new AccommodationIndexRow();
+        row.setAccommodationId(id);
+        row.setAccommodationName(name);
+        row.setAccommodationAddress("대한민국");
+        row.setAccommodationLatitude(latitude);
+        row.setAccommodationLongitude(longitude);
+        row.setMinPrice(100000);
+        row.setCategoryCode(categoryCode);
+        return row;
+    }
+}
@@ -0,0 +1,217 @@
+package com.meomulm.common.scheduling;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 스트리밍 청크 처리의 체크포인트 순서
+ * 청크 완료 순서를 뒤바꾸거나 커밋을 실패시켜서, 저장되는 체크포인트가
+ * 앞에서부터 연속으로 커밋된 청크까지만 가는지 확인한다. (DB 는 가짜 트랜잭션 매니저 / mock 기록)
+ */
+@ExtendWith(MockitoExtension.class)
+class ChunkStreamProcessorTest {
+
+    // 키 1 ~ 6, 청크 크기 2 → 청크 [1,2] [3,4] [5,6]
+    private static final int ROW_COUNT = 6;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private JobRunLedger jobRunLedger;
+
+    private FakeTransactionManager transactionManager;
+    private JobRun run;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new FakeTransactionManager();
+        run = new JobRun("TEST", LocalDate.of(2026, 1, 1), "RUNNING", 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("뒤 청크가 먼저 끝나면 첫 청크가 끝날 때 한 번에 마지막 키까지 체크포인트")
+    void outOfOrderCompletionCheckpointsOnlyContiguousPrefix() {
+        ChunkStreamProcessor processor = processor(3);
+        // 첫 청크는 뒤 두 청크가 커밋될 때까지 붙잡아 둔다
+        CountDownLatch laterChunksCommitted = transactionManager.expectCommits(2);
+
+        int processed = processor.process(run, ChunkStreamProcessorTest::cursor, Integer::intValue, chunk -> {
+            if (chunk.get(0) == 1) {
+                await(laterChunksCommitted);
+            }
+        });
+
+        assertThat(processed).isEqualTo(ROW_COUNT);
+        // 뒤 청크 완료 시점에는 앞 청크가 안 끝났으므로 체크포인트 없음
+        verify(jobRunLedger, times(1)).checkpoint(eq(run), anyInt(), anyInt());
+        verify(jobRunLedger).checkpoint(run, 6, 6);
+    }
+
+    @Test
+    @DisplayName("순서대로 끝나면 청크마다 체크포인트")
+    void inOrderCompletionCheckpointsEveryChunk() {
+        ChunkStreamProcessor processor = processor(1);
+
+        int processed = processor.process(run, ChunkStreamProcessorTest::cursor, Integer::intValue, chunk -> {
+        });
+
+        assertThat(processed).isEqualTo(ROW_COUNT);
+        InOrder order = inOrder(jobRunLedger);
+        order.verify(jobRunLedger).checkpoint(run, 2, 2);
+        order.verify(jobRunLedger).checkpoint(run, 4, 2);
+        order.verify(jobRunLedger).checkpoint(run, 6, 2);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("커밋에 실패한 청크를 건너뛴 체크포인트는 저장하지 않음")
+    void commitFailureStopsLaterCheckpoints() {
+        ChunkStreamProcessor processor = processor(1);
+        // 두 번째 청크 [3,4] 의 트랜잭션 커밋 실패 (체크포인트 4 도 함께 롤백)
+        transactionManager.failCommit(2);
+
+        assertThatThrownBy(() -> processor.process(run, ChunkStreamProcessorTest::cursor, Integer::intValue,
+                chunk -> {
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TransactionSystemException.class);
+
+        verify(jobRunLedger).checkpoint(run, 2, 2);
+        verify(jobRunLedger, never()).checkpoint(eq(run), eq(6), anyInt());
+    }
+
+    private ChunkStreamProcessor processor(int workers) {
+        ChunkStreamProcessor processor = new ChunkStreamProcessor(transactionManager, jobRunLedger);
+        ReflectionTestUtils.setField(processor, "chunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(processor, "workers", workers);
+        return processor;
+    }
+
+    private static Cursor<Integer> cursor(int afterKey) {
+        return new ListCursor(IntStream.rangeClosed(afterKey + 1, ROW_COUNT).boxed().toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 청크(쓰기) 트랜잭션 커밋만 세는 가짜 트랜잭션 매니저 (커서용 읽기 전용 트랜잭션은 제외)
+     */
+    private static class FakeTransactionManager implements PlatformTransactionManager {
+
+        private final Set<TransactionStatus> readOnly = Collections.synchronizedSet(
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        private final AtomicInteger commits = new AtomicInteger();
+        private volatile CountDownLatch commitLatch = new CountDownLatch(0);
+        private volatile int failingCommit;
+
+        CountDownLatch expectCommits(int count) {
+            commitLatch = new CountDownLatch(count);
+            return commitLatch;
+        }
+
+        void failCommit(int nth) {
+            failingCommit = nth;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            TransactionStatus status = new SimpleTransactionStatus();
+            if (definition != null && definition.isReadOnly()) {
+                readOnly.add(status);
+            }
+            return status;
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (readOnly.remove(status)) {
+                return;
+            }
+            if (commits.incrementAndGet() == failingCommit) {
+                throw new TransactionSystemException("커밋 실패 (테스트)");
+            }
+            commitLatch.countDown();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            readOnly.remove(status);
+        }
+    }
+
+    /**
+     * 리스트를 순서대로 돌려주는 커서
+     */
+    private static class ListCursor implements Cursor<Integer> {
+
+        private final List<Integer> rows;
+        private boolean open = true;
+
+        ListCursor(List<Integer> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return !open;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return rows.iterator();
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.meomulm.common.scheduling;
+
+import com.meomulm.common.config.DBConfig;
+import org.apache.ibatis.annotations.Mapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄러 분산 락 통합 테스트 (실제 PostgreSQL - Docker 가 없으면 건너뜀)
+ *
+ * scheduler.lock.instance-id 만 다른 애플리케이션 컨텍스트 두 개(node-a / node-b)를 한 DB 에 붙여
+ * 서버 두 대가 같은 작업을 동시에 트리거하는 상황을 만든다.
+ * - 동시에 트리거해도 한 서버만 실행
+ * - 실행 중에는 lease 연장으로 lease 시간이 지나도 다른 서버가 가져가지 못함
+ * - 락을 잡은 서버가 반납 없이 죽으면 lease 만료 후 다른 서버가 가져감
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchedulerLockIntegrationTest {
+
+    // 테스트 시간을 줄이기 위해 짧게 (연장 주기 1초)
+    private static final long LEASE_SECONDS = 3;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    /**
+     * 락 관련 빈만 올리는 최소 컨텍스트 (웹 / 보안 / 스케줄러 제외)
+     */
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @Import({DBConfig.class, SchedulerLock.class})
+    @MapperScan(basePackageClasses = SchedulerLockMapper.class, annotationClass = Mapper.class)
+    static class LockNodeConfig {
+    }
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+
+        ResourceDatabasePopulator populator =
+                new ResourceDatabasePopulator(new ClassPathResource("sql/scheduler_lock.sql"));
+        DataSource dataSource = nodeA.getBean(DataSource.class);
+        // hikari auto-commit=false 이므로 트랜잭션 안에서 실행해야 커밋된다
+        nodeA.getBean(TransactionTemplate.class).executeWithoutResult(status -> populator.execute(dataSource));
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    // config.properties(@PropertySource) 보다 우선하도록 커맨드라인 인자로 전달
+    private static ConfigurableApplicationContext startNode(String instanceId) {
+        return new SpringApplicationBuilder(LockNodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--scheduler.lock.instance-id=" + instanceId,
+                        "--scheduler.lock.lease-seconds=" + LEASE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("두 서버가 같은 작업을 동시에 트리거해도 한 서버만 실행")
+    void exactlyOneNodeRunsTheJob() throws Exception {
+        String lockName = "scheduler:TEST_CONCURRENT";
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Runnable job = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(finish);
+        };
+
+        CountDownLatch gate = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Boolean> ranOnA = executor.submit(() -> {
+                gate.await();
+                return lock(nodeA).runLocked(lockName, job);
+            });
+            Future<Boolean> ranOnB = executor.submit(() -> {
+                gate.await();
+                return lock(nodeB).runLocked(lockName, job);
+            });
+            gate.countDown();
+
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            // 실행 중인 쪽은 finish 전까지 끝나지 않으므로, 먼저 끝난 쪽이 건너뛴 서버
+            Future<Boolean> skipped = waitForFirstDone(List.of(ranOnA, ranOnB));
+            assertThat(skipped.get()).isFalse();
+
+            finish.countDown();
+            Future<Boolean> winner = skipped == ranOnA ? ranOnB : ranOnA;
+            assertThat(winner.get(10, TimeUnit.SECONDS)).isTrue();
+
+            String winnerId = lock(winner == ranOnA ? nodeA : nodeB).getInstanceId();
+            assertThat(lockOwner(lockName)).isEqualTo(winnerId);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 중에는 lease 를 연장해서 lease 시간이 지나도 다른 서버가 가져가지 못함")
+    void renewalKeepsOtherNodeOutWhileRunning() throws Exception {
+        String lockName = "scheduler:TEST_RENEWAL";
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger executionsOnB = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Boolean> ranOnA = executor.submit(() -> lock(nodeA).runLocked(lockName, () -> {
+                started.countDown();
+                await(finish);
+            }));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 처음 잡은 lease 가 끝난 뒤에도 연장된 상태여야 한다
+            Thread.sleep(TimeUnit.SECONDS.toMillis(LEASE_SECONDS * 2));
+            assertThat(lock(nodeB).runLocked(lockName, executionsOnB::incrementAndGet)).isFalse();
+            assertThat(lockOwner(lockName)).isEqualTo("node-a");
+
+            finish.countDown();
+            assertThat(ranOnA.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(executionsOnB.get()).isZero();
+
+        // 반납 후에는 lease 만료를 기다리지 않고 바로 다른 서버가 실행
+        assertThat(lock(nodeB).runLocked(lockName, executionsOnB::incrementAndGet)).isTrue();
+        assertThat(executionsOnB.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 잡은 서버가 반납 없이 죽으면 lease 만료 후 다른 서버가 실행")
+    void failoverAfterLeaseExpires() throws Exception {
+        String lockName = "scheduler:TEST_FAILOVER";
+        AtomicInteger executionsOnB = new AtomicInteger();
+
+        // node-a 가 락만 잡고 죽은 상황 : 연장 / 반납 없이 lease 만 남아 있다
+        long acquiredAt = System.nanoTime();
+        assertThat(nodeA.getBean(SchedulerLockMapper.class)
+                .acquireLock(lockName, lock(nodeA).getInstanceId(), LEASE_SECONDS)).isEqualTo(1);
+
+        assertThat(lock(nodeB).runLocked(lockName, executionsOnB::incrementAndGet)).isFalse();
+        assertThat(executionsOnB.get()).isZero();
+
+        // 다음 트리거를 흉내 내어 주기적으로 재시도
+        long deadline = acquiredAt + TimeUnit.SECONDS.toNanos(LEASE_SECONDS + 10);
+        boolean ran = false;
+        while (!ran && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            ran = lock(nodeB).runLocked(lockName, executionsOnB::incrementAndGet);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquiredAt);
+
+        assertThat(ran).isTrue();
+        assertThat(executionsOnB.get()).isEqualTo(1);
+        // lease 가 끝나기 전에는 가져가지 못한다 (DB / 테스트 시계 차이 여유 0.5초)
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toMillis(LEASE_SECONDS) - 500);
+        assertThat(lockOwner(lockName)).isEqualTo("node-b");
+    }
+
+    private static SchedulerLock lock(ConfigurableApplicationContext node) {
+        return node.getBean(SchedulerLock.class);
+    }
+
+    private static String lockOwner(String lockName) {
+        return nodeA.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT owner_id FROM scheduler_lock WHERE lock_name = ?", String.class, lockName);
+    }
+
+    private static Future<Boolean> waitForFirstDone(List<Future<Boolean>> futures) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            for (Future<Boolean> future : futures) {
+                if (future.isDone()) {
+                    return future;
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("10초 안에 끝난 서버가 없습니다.");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.meomulm.product.model.service;
+
+import com.meomulm.common.config.DBConfig;
+import com.meomulm.common.exception.ConflictException;
+import com.meomulm.common.exception.ForbiddenException;
+import com.meomulm.common.exception.NotFoundException;
+import com.meomulm.common.util.ValidateUtil;
+import com.meomulm.notification.model.service.NotificationOutboxService;
+import com.meomulm.reservation.model.dto.Reservation;
+import com.meomulm.reservation.model.dto.ReservationDeleteRequest;
+import com.meomulm.reservation.model.service.ReservationService;
+import com.meomulm.reservation.model.service.ReservationServiceImpl;
+import org.apache.ibatis.annotations.Mapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 객실 재고 원장 동시성 테스트 (실제 PostgreSQL - Docker 가 없으면 건너뜀)
+ *
+ * 행 잠금 / 조건부 UPDATE / DELETE ... RETURNING 에 기대는 로직이라 H2 같은 대체 DB 로는 검증할 수 없어
+ * Testcontainers 로 띄운 PostgreSQL 에 운영 DDL(resources/sql)을 그대로 적용해서 확인한다.
+ * - 동시 예약 : 어떤 숙박일도 reserved_count 가 객실 수를 넘지 않고, 초과분은 모두 409(ConflictException)
+ * - 동시 취소 / 삭제 / 홀드 만료 : 같은 예약의 재고는 한 번만 복구
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+        classes = ProductInventoryConcurrencyTest.TestConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.hikari.maximum-pool-size=20")
+class ProductInventoryConcurrencyTest {
+
+    private static final int USER_ID = 1;
+    private static final int OTHER_USER_ID = 2;
+    private static final int THREADS = 32;
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(30);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(2);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    /**
+     * 재고 / 예약 서비스와 매퍼만 올리는 최소 컨텍스트 (웹 / 보안 / 스케줄러 제외)
+     */
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @Import({DBConfig.class, ValidateUtil.class, ProductInventoryServiceImpl.class, ReservationServiceImpl.class})
+    @MapperScan(basePackages = "com.meomulm", annotationClass = Mapper.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private ProductInventoryService productInventoryService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUpSchema() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("sql/inventory-test-schema.sql"),
+                new ClassPathResource("sql/product_inventory.sql"),
+                new ClassPathResource("sql/reservation_hold_expiry.sql"));
+        // hikari auto-commit=false 이므로 트랜잭션 안에서 실행해야 커밋된다
+        transactionTemplate.executeWithoutResult(status -> populator.execute(dataSource));
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 기간이 겹치는 요청이 몰려도 객실 수만큼만 성공하고 나머지는 409")
+    void concurrentReserveNeverOverbooks() throws InterruptedException {
+        int capacity = 5;
+        int requests = 300;
+        int productId = insertProduct(capacity);
+        // A : 1박째 ~ 2박째, B : 2박째 ~ 3박째 → 2박째에서 모든 요청이 경쟁
+        LocalDate middle = CHECK_IN.plusDays(1);
+        AtomicInteger reservedA = new AtomicInteger();
+        AtomicInteger reservedB = new AtomicInteger();
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            boolean windowA = i % 2 == 0;
+            tasks.add(() -> {
+                Reservation stay = windowA
+                        ? stay(productId, CHECK_IN, middle.plusDays(1))
+                        : stay(productId, middle, middle.plusDays(2));
+                transactionTemplate.executeWithoutResult(status -> productInventoryService.reserve(stay));
+                (windowA ? reservedA : reservedB).incrementAndGet();
+                return null;
+            });
+        }
+        List<Object> results = runConcurrently(tasks);
+
+        assertThat(unexpected(results, ConflictException.class)).isEmpty();
+        assertThat(count(results, ConflictException.class)).isEqualTo(requests - capacity);
+        assertThat(reservedA.get() + reservedB.get()).isEqualTo(capacity);
+        assertThat(reservedCount(productId, CHECK_IN)).isEqualTo(reservedA.get());
+        assertThat(reservedCount(productId, middle)).isEqualTo(capacity);
+        assertThat(reservedCount(productId, middle.plusDays(1))).isEqualTo(reservedB.get());
+        assertThat(maxReservedCount(productId)).isLessThanOrEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("동시 취소 - 같은 예약을 여러 번 취소해도 한 번만 성공하고 재고도 한 번만 복구")
+    void concurrentCancelReleasesOnce() throws InterruptedException {
+        int productId = insertProduct(5);
+        int target = hold(productId);
+        hold(productId);
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                reservationService.putReservation(new ReservationDeleteRequest(target), USER_ID);
+                return null;
+            });
+        }
+        List<Object> results = runConcurrently(tasks);
+
+        assertThat(unexpected(results, ConflictException.class)).isEmpty();
+        assertThat(count(results, ConflictException.class)).isEqualTo(tasks.size() - 1);
+        assertThat(reservationStatus(target)).isEqualTo("CANCELED");
+        assertStayReservedCount(productId, 1);
+        verify(notificationOutboxService, times(1)).enqueue(eq(USER_ID), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("삭제와 홀드 만료 경쟁 - 어느 쪽이 먼저 지워도 재고는 한 번만 복구")
+    void deleteRacingHoldExpiryReleasesOnce() throws InterruptedException {
+        int productId = insertProduct(5);
+        for (int round = 0; round < 20; round++) {
+            assertReleasedOnceWhileExpiring(productId, target ->
+                    reservationService.deleteReservation(new ReservationDeleteRequest(target), USER_ID));
+        }
+    }
+
+    @Test
+    @DisplayName("취소와 홀드 만료 경쟁 - 어느 쪽이 먼저 처리해도 재고는 한 번만 복구")
+    void cancelRacingHoldExpiryReleasesOnce() throws InterruptedException {
+        int productId = insertProduct(5);
+        for (int round = 0; round < 20; round++) {
+            assertReleasedOnceWhileExpiring(productId, target ->
+                    reservationService.putReservation(new ReservationDeleteRequest(target), USER_ID));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 예약은 삭제할 수 없고 재고도 그대로")
+    void deleteByOtherUserIsForbidden() {
+        int productId = insertProduct(5);
+        int target = hold(productId);
+
+        assertThatThrownBy(() ->
+                reservationService.deleteReservation(new ReservationDeleteRequest(target), OTHER_USER_ID))
+                .isInstanceOf(ForbiddenException.class);
+        assertThat(reservationStatus(target)).isEqualTo("NOT_PAID");
+        assertStayReservedCount(productId, 1);
+    }
+
+    /**
+     * 만료된 홀드 1건 + 유효한 홀드 1건을 만들고, 만료된 홀드에 대한 사용자 요청과 홀드 만료 정리를 동시에 실행
+     * 둘 중 정확히 한 쪽만 처리되고, 원장에는 유효한 홀드 1건만 남아야 한다.
+     */
+    private void assertReleasedOnceWhileExpiring(int productId, ReservationAction userAction)
+            throws InterruptedException {
+        int expired = hold(productId);
+        int remaining = hold(productId);
+        inTransaction("UPDATE reservation SET expires_at = NOW() - INTERVAL '1 minute' WHERE reservation_id = ?",
+                expired);
+
+        List<Object> results = runConcurrently(List.of(
+                () -> {
+                    userAction.run(expired);
+                    return 0;
+                },
+                () -> reservationService.expireHolds(100)));
+
+        assertThat(unexpected(results, NotFoundException.class)).isEmpty();
+        boolean userWon = !(results.get(0) instanceof Throwable);
+        int swept = (int) results.get(1);
+        assertThat(userWon ? 1 : 0).isEqualTo(1 - swept);
+        assertStayReservedCount(productId, 1);
+
+        // 다음 라운드를 위해 남은 홀드 정리
+        reservationService.deleteReservation(new ReservationDeleteRequest(remaining), USER_ID);
+        assertStayReservedCount(productId, 0);
+    }
+
+    @FunctionalInterface
+    private interface ReservationAction {
+        void run(int reservationId);
+    }
+
+    /**
+     * 작업을 한꺼번에 출발시키고 작업별 결과(반환값 또는 던진 예외)를 순서대로 반환
+     */
+    private static List<Object> runConcurrently(List<Callable<Object>> tasks) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        // 플랫폼 스레드 풀 : 드라이버 내부 synchronized 에 가상 스레드가 고정되어 락 대기 중 멈추는 일을 피한다
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, tasks.size()))) {
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return task.call();
+                    } catch (Exception e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.resultNow());
+        }
+        return results;
+    }
+
+    private static long count(List<Object> results, Class<? extends Throwable> type) {
+        return results.stream().filter(type::isInstance).count();
+    }
+
+    // 예상한 예외(expected) 외의 예외
+    private static List<Object> unexpected(List<Object> results, Class<? extends Throwable> expected) {
+        return results.stream()
+                .filter(result -> result instanceof Throwable && !expected.isInstance(result))
+                .toList();
+    }
+
+    private int insertProduct(int capacity) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "INSERT INTO product (accommodation_id, product_name, product_count) VALUES (1, '스탠다드', ?) "
+                        + "RETURNING product_id",
+                Integer.class, capacity));
+    }
+
+    // 미결제 홀드 예약 생성 (CHECK_IN ~ CHECK_OUT)
+    private int hold(int productId) {
+        Reservation reservation = stay(productId, CHECK_IN, CHECK_OUT);
+        reservation.setUserId(USER_ID);
+        reservation.setBookerName("홍길동");
+        reservation.setBookerEmail("guest@meomulm.com");
+        reservation.setBookerPhone("010-1234-5678");
+        reservation.setGuestCount(2);
+        reservation.setTotalPrice(100000);
+        reservationService.postReservation(reservation);
+        return reservation.getReservationId();
+    }
+
+    private static Reservation stay(int productId, LocalDate checkIn, LocalDate checkOut) {
+        Reservation reservation = new Reservation();
+        reservation.setProductId(productId);
+        reservation.setCheckInDate(Date.valueOf(checkIn));
+        reservation.setCheckOutDate(Date.valueOf(checkOut));
+        return reservation;
+    }
+
+    private void inTransaction(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+
+    private String reservationStatus(int reservationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM reservation WHERE reservation_id = ?", String.class, reservationId);
+    }
+
+    private int reservedCount(int productId, LocalDate stayDate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reserved_count FROM product_inventory WHERE product_id = ? AND stay_date = ?",
+                Integer.class, productId, Date.valueOf(stayDate));
+    }
+
+    private int maxReservedCount(int productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(reserved_count), 0) FROM product_inventory WHERE product_id = ?",
+                Integer.class, productId);
+    }
+
+    // CHECK_IN ~ CHECK_OUT 전날까지 모든 숙박일의 예약 수 확인
+    private void assertStayReservedCount(int productId, int expected) {
+        for (LocalDate day = CHECK_IN; day.isBefore(CHECK_OUT); day = day.plusDays(1)) {
+            assertThat(reservedCount(productId, day)).as("stay_date=%s", day).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+-- 재고 동시성 테스트용 최소 스키마
+-- 원장 / 홀드 만료 DDL 은 운영 스크립트(resources/sql)를 그대로 이어서 실행한다.
+DROP TABLE IF EXISTS product_inventory, payment, reservation, product CASCADE;
+
+CREATE TABLE product (
+    product_id        SERIAL PRIMARY KEY,
+    accommodation_id  INT          NOT NULL,
+    product_name      VARCHAR(100) NOT NULL,
+    product_count     INT          NOT NULL
+);
+
+CREATE TABLE reservation (
+    reservation_id  SERIAL PRIMARY KEY,
+    user_id         INT          NOT NULL,
+    product_id      INT          NOT NULL REFERENCES product (product_id),
+    booker_name     VARCHAR(50)  NOT NULL,
+    booker_email    VARCHAR(100) NOT NULL,
+    booker_phone    VARCHAR(20)  NOT NULL,
+    check_in_date   DATE         NOT NULL,
+    check_out_date  DATE         NOT NULL,
+    guest_count     INT          NOT NULL DEFAULT 1,
+    status          VARCHAR(20)  NOT NULL,
+    total_price     INT          NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP    NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE payment (
+    payment_id      SERIAL PRIMARY KEY,
+    reservation_id  INT         NOT NULL,
+    payment_method  VARCHAR(50),
+    paid_amount     INT,
+    status          VARCHAR(20),
+    paid_at         TIMESTAMP
+);